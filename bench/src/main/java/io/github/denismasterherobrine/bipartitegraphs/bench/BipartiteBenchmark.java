@@ -0,0 +1,84 @@
+package io.github.denismasterherobrine.bipartitegraphs.bench;
+
+import io.github.denismasterherobrine.bipartitegraphs.cli.BipartiteGraphsAPI;
+import io.github.denismasterherobrine.bipartitegraphs.core.BipartiteResult;
+import io.github.denismasterherobrine.bipartitegraphs.core.BitMatrix;
+import io.github.denismasterherobrine.bipartitegraphs.core.CsrGraph;
+import io.github.denismasterherobrine.bipartitegraphs.io.GraphReader;
+import io.github.denismasterherobrine.bipartitegraphs.io.OutputOptions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of every phase of the Bipartite Graphs API: loading, coloring, odd cycle search and writing the result.
+ *
+ * Each phase is measured on its own on the graphs of a {@link GraphState}, and JMH consumes the returned values,
+ * so the JIT can't drop the work that computed them. The bytes allocated per operation are reported by the GC profiler.
+ *
+ * Usage: {@code mvn package}, then {@code java -jar bench/target/benchmarks.jar -prof gc},
+ * where {@code -p size=1024} or {@code -p shape=GRID} narrow the graphs down.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class BipartiteBenchmark {
+    @Benchmark
+    public int[][] loadMatrix(GraphState state) throws IOException {
+        return GraphReader.readMatrix(state.input);
+    }
+
+    @Benchmark
+    public BitMatrix loadPacked(GraphState state) throws IOException {
+        return GraphReader.readBitMatrix(state.input);
+    }
+
+    @Benchmark
+    public CsrGraph loadSparse(GraphState state) throws IOException {
+        return GraphReader.readCsrGraph(state.input);
+    }
+
+    @Benchmark
+    public CsrGraph loadBinary(GraphState state) throws IOException {
+        return GraphReader.readCsrGraph(state.binary);
+    }
+
+    @Benchmark
+    public List<Integer>[] partitions(GraphState state) {
+        return BipartiteGraphsAPI.getBipartitePartitions(state.graph);
+    }
+
+    @Benchmark
+    public BipartiteResult checkSparse(GraphState state) {
+        return BipartiteGraphsAPI.checkBipartite(state.graph);
+    }
+
+    @Benchmark
+    public BipartiteResult checkPacked(GraphState state) {
+        return BipartiteGraphsAPI.checkBipartite(state.matrix);
+    }
+
+    @Benchmark
+    public List<Integer> oddCycle(GraphState state) {
+        return BipartiteGraphsAPI.findOddCycle(state.graph);
+    }
+
+    @Benchmark
+    public void write(GraphState state) throws IOException {
+        BipartiteGraphsAPI.setData(state.output, state.result, OutputOptions.DEFAULT);
+    }
+}
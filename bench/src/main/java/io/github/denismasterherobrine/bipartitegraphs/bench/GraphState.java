@@ -0,0 +1,104 @@
+package io.github.denismasterherobrine.bipartitegraphs.bench;
+
+import io.github.denismasterherobrine.bipartitegraphs.cli.BipartiteGraphsAPI;
+import io.github.denismasterherobrine.bipartitegraphs.core.BipartiteResult;
+import io.github.denismasterherobrine.bipartitegraphs.core.BitMatrix;
+import io.github.denismasterherobrine.bipartitegraphs.core.CsrGraph;
+import io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator;
+import io.github.denismasterherobrine.bipartitegraphs.io.GraphReader;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A graph written by the {@link GraphGenerator} for every shape and size, shared by all threads of a benchmark.
+ *
+ * The text and the binary files of the graph, its loaded storages and its result are made once per trial,
+ * so every benchmark only measures its own phase. Files are written to a temporary directory, which is deleted afterwards.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+    private static final long SEED = 42L;
+
+    /**
+     * The shapes of the generated graphs, all of them but the planted odd cycle are bipartite.
+     */
+    public enum Shape {
+        PATH, GRID, SPARSE_BIPARTITE, DENSE_BIPARTITE, PLANTED_ODD_CYCLE
+    }
+
+    @Param
+    Shape shape;
+
+    @Param({"256", "1024", "2048"})
+    int size;
+
+    File directory;
+    String input;
+    String binary;
+    String output;
+    BitMatrix matrix;
+    CsrGraph graph;
+    BipartiteResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = File.createTempFile("bipartite-benchmark", "");
+
+        if (!directory.delete() || !directory.mkdir()) {
+            throw new IOException("Can't create a temporary directory " + directory);
+        }
+
+        input = new File(directory, "input.txt").getPath();
+        binary = new File(directory, "input.bin").getPath();
+        output = new File(directory, "output.txt").getPath();
+
+        generate();
+
+        matrix = GraphReader.readBitMatrix(input);
+        graph = CsrGraph.fromGraph(matrix);
+        result = BipartiteGraphsAPI.checkBipartite(graph);
+
+        BipartiteGraphsAPI.setBinaryData(binary, graph);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    private void generate() throws IOException {
+        switch (shape) {
+            case PATH:
+                GraphGenerator.path(input, size);
+                break;
+            case GRID:
+                int width = (int) Math.sqrt(size);
+                GraphGenerator.grid(input, size / width, width);
+                break;
+            case SPARSE_BIPARTITE:
+                // Every vertex gets about 4 neighbors on the other side.
+                GraphGenerator.randomBipartite(input, size, 8.0 / size, SEED);
+                break;
+            case DENSE_BIPARTITE:
+                GraphGenerator.randomBipartite(input, size, 0.1, SEED);
+                break;
+            case PLANTED_ODD_CYCLE:
+                GraphGenerator.plantedOddCycle(input, size, 8.0 / size, SEED);
+                break;
+        }
+    }
+}
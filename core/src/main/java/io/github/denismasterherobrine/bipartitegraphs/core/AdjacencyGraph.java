@@ -0,0 +1,45 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * A read-only view of an undirected graph, shared by all storage backends of the Bipartite Graphs API.
+ *
+ * Neighbors are walked with an edge cursor, which is a column for matrices and a position in the targets array for sparse graphs:
+ * <pre>
+ * for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+ *     int neighbor = graph.target(vertex, edge);
+ * }
+ * </pre>
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public interface AdjacencyGraph {
+    /**
+     * @return the number of vertices of the graph
+     * @since 1.1.0
+     */
+    int size();
+
+    /**
+     * @param vertex the vertex whose neighbors are walked
+     * @return the cursor to start walking the neighbors of the vertex from
+     * @since 1.1.0
+     */
+    int firstEdge(int vertex);
+
+    /**
+     * @param vertex the vertex whose neighbors are walked
+     * @param cursor the first cursor to be checked
+     * @return the cursor of the first edge which is not before the given cursor, or -1 if there are none
+     * @since 1.1.0
+     */
+    int nextEdge(int vertex, int cursor);
+
+    /**
+     * @param vertex the vertex whose neighbors are walked
+     * @param edge the cursor of the edge returned by {@link #nextEdge(int, int)}
+     * @return the neighbor at the other end of the edge
+     * @since 1.1.0
+     */
+    int target(int vertex, int edge);
+}
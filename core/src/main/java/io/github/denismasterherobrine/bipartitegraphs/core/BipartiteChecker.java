@@ -0,0 +1,60 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+
+/**
+ * A reusable bipartiteness checker, which owns the scratch buffers of the traversal.
+ *
+ * Graphs are never modified by a check, so a single graph may be checked by many threads at once.
+ * A checker itself is not thread-safe: every thread is expected to have its own one,
+ * and then threads check their graphs concurrently without any locks or shared state.
+ * The buffers grow to the largest graph checked so far and are reused afterwards.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class BipartiteChecker {
+    private byte[] colors = new byte[0];
+    private int[] parent = new int[0];
+    private int[] queue = new int[0];
+
+    /**
+     * Checks whether the given graph is bipartite and finds the proof of the answer in a single breadth-first search.
+     *
+     * @param graph the graph in any of the supported storages
+     * @return the partitions of the graph or its odd cycle, which doesn't share any arrays with the checker
+     * @since 1.1.0
+     */
+    public BipartiteResult check(AdjacencyGraph graph) {
+        return check(graph, null);
+    }
+
+    /**
+     * Checks the graph the same way as {@link #check(AdjacencyGraph)} and records the counters of the traversal.
+     *
+     * @param graph the graph in any of the supported storages
+     * @param metrics the metrics to record the visited vertices, the scanned edges and the largest queue to, or null
+     * @return the partitions of the graph or its odd cycle, which doesn't share any arrays with the checker
+     * @since 1.1.0
+     */
+    public BipartiteResult check(AdjacencyGraph graph, PhaseMetrics metrics) {
+        int size = graph.size();
+
+        if (colors.length < size) {
+            colors = new byte[size];
+            parent = new int[size];
+            queue = new int[size];
+        }
+
+        // -1 represents a vertex that has not yet been colored.
+        Arrays.fill(colors, 0, size, (byte) -1);
+
+        long conflict = TraversalEngine.colorGraph(graph, colors, queue, parent, metrics);
+
+        if (conflict != TraversalEngine.NO_CONFLICT) {
+            return new BipartiteResult(null, TraversalEngine.oddCycle(conflict, parent));
+        }
+
+        return new BipartiteResult(Arrays.copyOf(colors, size), null, Arrays.copyOf(queue, size));
+    }
+}
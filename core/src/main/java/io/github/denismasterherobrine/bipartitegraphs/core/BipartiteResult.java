@@ -0,0 +1,158 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of a bipartiteness check, holding either a 2-coloring of the graph or an odd cycle proving it's not bipartite.
+ *
+ * Everything is stored in primitive arrays. The list getters are kept for the old API,
+ * while the array getters and the writer of the result files never box a single vertex.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class BipartiteResult {
+    private final byte[] colors;
+    private final int[] cycle;
+    private final int[] order;
+    private final int countA;
+
+    /**
+     * @param colors the colors of every vertex, 1 or 0, or null if the graph is not bipartite
+     * @param cycle the vertices of an odd cycle, or null if the graph is bipartite or the check doesn't find cycles
+     * @since 1.1.0
+     */
+    public BipartiteResult(byte[] colors, int[] cycle) {
+        this(colors, cycle, null);
+    }
+
+    /**
+     * @param colors the colors of every vertex, 1 or 0, or null if the graph is not bipartite
+     * @param cycle the vertices of an odd cycle, or null if the graph is bipartite or the check doesn't find cycles
+     * @param order every vertex in the order the check has colored it, or null if the check doesn't keep it
+     * @since 1.1.0
+     */
+    public BipartiteResult(byte[] colors, int[] cycle, int[] order) {
+        this.colors = colors;
+        this.cycle = cycle;
+        this.order = order;
+
+        int count = 0;
+        if (colors != null) {
+            for (byte color : colors) {
+                count += color;
+            }
+        }
+        this.countA = count;
+    }
+
+    /**
+     * @return true if the graph is bipartite
+     * @since 1.1.0
+     */
+    public boolean isBipartite() {
+        return colors != null;
+    }
+
+    /**
+     * @return an array containing lists of the IDs of the vertices of each color in the bipartite
+     *         partition, or null if the graph is not bipartite
+     * @since 1.1.0
+     */
+    public List<Integer>[] getPartitions() {
+        if (colors == null) {
+            return null;
+        }
+
+        // Create lists of vertices for each color.
+        List<Integer> verticesA = new ArrayList<>();
+        List<Integer> verticesB = new ArrayList<>();
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] == 0) {
+                verticesB.add(i + 1);
+            } else {
+                verticesA.add(i + 1);
+            }
+        }
+
+        // Return the lists of vertices for each color.
+        return new List[]{verticesA, verticesB};
+    }
+
+    /**
+     * @param color the color of the side, 1 for the first one and 0 for the second one
+     * @return the number of vertices of the given color, 0 if the graph is not bipartite
+     * @since 1.1.0
+     */
+    public int getSideSize(int color) {
+        if (colors == null) {
+            return 0;
+        }
+
+        return color == 1 ? countA : colors.length - countA;
+    }
+
+    /**
+     * @param color the color of the side, 1 for the first one and 0 for the second one
+     * @return the vertices of the given color in ascending order, starting at 0, or null if the graph is not bipartite
+     * @since 1.1.0
+     */
+    public int[] getSide(int color) {
+        if (colors == null) {
+            return null;
+        }
+
+        int[] side = new int[getSideSize(color)];
+        int index = 0;
+
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] == color) {
+                side[index++] = i;
+            }
+        }
+
+        return side;
+    }
+
+    /**
+     * @return the colors of every vertex, 1 or 0, or null if the graph is not bipartite, not a copy
+     * @since 1.1.0
+     */
+    public byte[] getColors() {
+        return colors;
+    }
+
+    /**
+     * @return the vertices of the odd cycle, starting at 0, or null if the graph is bipartite or the cycle is unknown, not a copy
+     * @since 1.1.0
+     */
+    public int[] getCycleVertices() {
+        return cycle;
+    }
+
+    /**
+     * @return every vertex in the order the check has colored it, starting at 0, or null if it's unknown, not a copy
+     * @since 1.1.0
+     */
+    public int[] getOrder() {
+        return order;
+    }
+
+    /**
+     * @return a list of vertices in the odd cycle, or null if the graph is bipartite or the cycle is unknown
+     * @since 1.1.0
+     */
+    public List<Integer> getCycle() {
+        if (cycle == null) {
+            return null;
+        }
+
+        List<Integer> list = new ArrayList<>(cycle.length);
+        for (int vertex : cycle) {
+            list.add(vertex);
+        }
+
+        return list;
+    }
+}
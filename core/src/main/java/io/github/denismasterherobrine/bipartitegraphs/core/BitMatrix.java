@@ -0,0 +1,261 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * A bit-packed adjacency matrix, the memory-friendly storage backend of the Bipartite Graphs API.
+ *
+ * Every row is kept as an array of {@code long} words with one bit per cell, so a matrix takes
+ * 32 times less memory than the same matrix held in an {@code int[][]}.
+ * Empty cells can be skipped 64 at a time while looking for neighbors.
+ * A loaded graph is never modified, so it may be shared between threads.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class BitMatrix implements AdjacencyGraph {
+    private final int size;
+    private final long[][] rows;
+
+    /**
+     * Creates an empty square matrix.
+     *
+     * @param size the number of vertices of the graph
+     * @since 1.1.0
+     */
+    public BitMatrix(int size) {
+        this.size = size;
+        this.rows = new long[size][(size + 63) >>> 6];
+    }
+
+    /**
+     * Packs an existing adjacency matrix, every cell holding 1 is treated as an edge, the same as by {@link MatrixGraph}.
+     *
+     * @param MatrixHolder the adjacency matrix to be packed
+     * @return a bit-packed copy of the matrix
+     * @throws IndexOutOfBoundsException if a row has an edge past the number of rows.
+     * @since 1.1.0
+     */
+    public static BitMatrix fromMatrix(int[][] MatrixHolder) {
+        BitMatrix matrix = new BitMatrix(MatrixHolder.length);
+
+        for (int row = 0; row < MatrixHolder.length; row++) {
+            for (int column = 0; column < MatrixHolder[row].length; column++) {
+                if (MatrixHolder[row][column] == 1) {
+                    matrix.set(row, column);
+                }
+            }
+        }
+
+        return matrix;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return 0;
+    }
+
+    @Override
+    public int nextEdge(int vertex, int cursor) {
+        return nextSetBit(vertex, cursor);
+    }
+
+    @Override
+    public int target(int vertex, int edge) {
+        return edge;
+    }
+
+    /**
+     * Packs a graph held in any other storage.
+     *
+     * @param graph the graph to be packed
+     * @return a bit-packed copy of the graph, or the same graph if it's already packed
+     * @since 1.1.0
+     */
+    public static BitMatrix fromGraph(AdjacencyGraph graph) {
+        if (graph instanceof BitMatrix) {
+            return (BitMatrix) graph;
+        }
+
+        BitMatrix matrix = new BitMatrix(graph.size());
+
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                matrix.set(vertex, graph.target(vertex, edge));
+            }
+        }
+
+        return matrix;
+    }
+
+    /**
+     * @param row the row of the cell
+     * @param column the column of the cell
+     * @return true if the cell is set
+     * @since 1.1.0
+     */
+    public boolean get(int row, int column) {
+        return (rows[row][column >>> 6] & (1L << column)) != 0;
+    }
+
+    /**
+     * Sets the cell of the matrix, which is the same as writing 1 into it.
+     * Only loaders call it, before the matrix is shared.
+     *
+     * @param row the row of the cell
+     * @param column the column of the cell
+     * @throws IndexOutOfBoundsException if the cell is out of the matrix, a column past the size would be a vertex which doesn't exist.
+     * @since 1.1.0
+     */
+    void set(int row, int column) {
+        if (row < 0 || row >= size || column < 0 || column >= size) {
+            throw new IndexOutOfBoundsException("The cell " + row + ", " + column + " is out of a matrix of " + size + " vertices");
+        }
+
+        rows[row][column >>> 6] |= 1L << column;
+    }
+
+    /**
+     * Finds the next neighbor of a vertex, skipping a whole word of empty cells at once.
+     *
+     * @param row the vertex whose neighbors are scanned
+     * @param from the first column to be checked
+     * @return the lowest set column which is not less than {@code from}, or -1 if there are none
+     * @since 1.1.0
+     */
+    public int nextSetBit(int row, int from) {
+        if (from >= size) {
+            return -1;
+        }
+
+        long[] words = rows[row];
+        int index = from >>> 6;
+
+        // Mask out the columns before "from" in the first word.
+        long word = words[index] & (-1L << from);
+
+        while (word == 0) {
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+
+        return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * @param row the vertex whose row is returned
+     * @return the words of the row, not a copy
+     * @since 1.1.0
+     */
+    long[] row(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Copies the words of a row, bit {@code c & 63} of word {@code c >>> 6} is the cell of the column {@code c}.
+     *
+     * @param row the vertex whose row is copied
+     * @param words an array of {@code (size + 63) / 64} words to be filled
+     * @throws IllegalArgumentException if the array has a wrong length.
+     * @since 1.1.0
+     */
+    public void copyRow(int row, long[] words) {
+        if (words.length != rows[row].length) {
+            throw new IllegalArgumentException("A row of " + size + " vertices takes " + rows[row].length + " words, not " + words.length);
+        }
+
+        System.arraycopy(rows[row], 0, words, 0, words.length);
+    }
+
+    /**
+     * @return the number of set cells, every undirected edge is counted twice
+     * @since 1.1.0
+     */
+    public long entries() {
+        long count = 0;
+
+        for (long[] words : rows) {
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Fills a matrix cell by cell or row by row, the rows may be filled from several threads as long as
+     * no two threads fill the same row.
+     *
+     * @since 1.1.0
+     */
+    public static final class Builder {
+        private final BitMatrix matrix;
+        private boolean built = false;
+
+        /**
+         * @param size the number of vertices of the graph
+         */
+        public Builder(int size) {
+            this.matrix = new BitMatrix(size);
+        }
+
+        /**
+         * Sets the cell of the matrix, which is the same as writing 1 into it.
+         *
+         * @param row the row of the cell
+         * @param column the column of the cell
+         * @throws IndexOutOfBoundsException if the cell is out of the matrix.
+         * @throws IllegalStateException if the matrix is already built.
+         */
+        public void set(int row, int column) {
+            checkNotBuilt();
+            matrix.set(row, column);
+        }
+
+        /**
+         * Replaces a whole row with the given words, laid out as by {@link BitMatrix#copyRow(int, long[])}.
+         *
+         * @param row the row to be replaced
+         * @param words the words of the row, they are copied
+         * @throws IllegalArgumentException if the array has a wrong length or sets a column past the size.
+         * @throws IllegalStateException if the matrix is already built.
+         */
+        public void setRow(int row, long[] words) {
+            checkNotBuilt();
+            long[] target = matrix.rows[row];
+
+            if (words.length != target.length) {
+                throw new IllegalArgumentException("A row of " + matrix.size + " vertices takes " + target.length + " words, not " + words.length);
+            }
+
+            // Bits past the last column would be neighbors which don't exist.
+            int tail = matrix.size & 63;
+            if (tail != 0 && (words[words.length - 1] & (-1L << tail)) != 0) {
+                throw new IllegalArgumentException("The row " + row + " has a column past " + matrix.size + " vertices");
+            }
+
+            System.arraycopy(words, 0, target, 0, words.length);
+        }
+
+        /**
+         * @return the filled matrix, the builder can't be used afterwards
+         */
+        public BitMatrix build() {
+            checkNotBuilt();
+            built = true;
+            return matrix;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("The matrix is already built");
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Colors the connected components of a graph concurrently, which fits graphs made of many independent components.
+ *
+ * First the components are labeled by a lock-free union-find, which is filled from ranges of rows in parallel.
+ * Then every component is colored by a breadth-first search in its own fork-join task, using its own slice
+ * of a single preallocated worklist. The first component with an odd cycle stops all other tasks.
+ * Slices follow the lowest vertices of the components, so the worklist is the same order as the one of a sequential check.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class ComponentParallelColoring {
+    // Rows labeled by a single task and vertices colored by a single task, at least.
+    private static final int GRAIN = 1024;
+
+    private final AdjacencyGraph graph;
+    private final AtomicIntegerArray sets;
+    private final byte[] colors;
+    private final int[] parent;
+    private final int[] queue;
+    private final AtomicLong conflict = new AtomicLong(TraversalEngine.NO_CONFLICT);
+    private final AtomicLong visitedVertices = new AtomicLong();
+    private final AtomicLong scannedEdges = new AtomicLong();
+    private final AtomicInteger largestQueue = new AtomicInteger();
+    private int[] roots;
+    private int[] starts;
+
+    private ComponentParallelColoring(AdjacencyGraph graph) {
+        this.graph = graph;
+        this.sets = new AtomicIntegerArray(graph.size());
+        this.colors = new byte[graph.size()];
+        this.parent = new int[graph.size()];
+        this.queue = new int[graph.size()];
+    }
+
+    /**
+     * Checks whether the given graph is bipartite, coloring its components concurrently on the pool.
+     *
+     * @param graph the graph in any of the supported storages, it must be safe to read from many threads
+     * @param pool the pool to run the tasks on
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public static BipartiteResult check(AdjacencyGraph graph, ForkJoinPool pool) {
+        return check(graph, pool, null);
+    }
+
+    /**
+     * Checks the graph the same way as {@link #check(AdjacencyGraph, ForkJoinPool)} and records the counters of the traversal.
+     * Every coloring task counts its components locally and adds them up once, the labeling pass is not counted.
+     *
+     * @param graph the graph in any of the supported storages, it must be safe to read from many threads
+     * @param pool the pool to run the tasks on
+     * @param metrics the metrics to record the visited vertices, the scanned edges and the largest queue to, or null
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public static BipartiteResult check(AdjacencyGraph graph, ForkJoinPool pool, PhaseMetrics metrics) {
+        ComponentParallelColoring coloring = new ComponentParallelColoring(graph);
+        BipartiteResult result = coloring.run(pool);
+
+        if (metrics != null) {
+            metrics.traversal(coloring.visitedVertices.get(), coloring.scannedEdges.get(), coloring.largestQueue.get());
+        }
+
+        return result;
+    }
+
+    private BipartiteResult run(ForkJoinPool pool) {
+        int size = graph.size();
+
+        for (int i = 0; i < size; i++) {
+            sets.set(i, i);
+        }
+        Arrays.fill(colors, (byte) -1);
+
+        pool.invoke(new LabelTask(0, size));
+        slice();
+        pool.invoke(new ColorTask(0, roots.length));
+
+        if (conflict.get() != TraversalEngine.NO_CONFLICT) {
+            return new BipartiteResult(null, TraversalEngine.oddCycle(conflict.get(), parent));
+        }
+
+        return new BipartiteResult(colors, null, queue);
+    }
+
+    /**
+     * Finds the root of every component and gives each component a slice of the worklist as long as the component is.
+     */
+    private void slice() {
+        int size = graph.size();
+        int[] counts = new int[size];
+        int components = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (counts[find(i)]++ == 0) {
+                components++;
+            }
+        }
+
+        roots = new int[components];
+        starts = new int[components + 1];
+
+        // Roots are the lowest vertices of their components, so they're met in the same order as by a sequential check.
+        int index = 0;
+        for (int i = 0; i < size; i++) {
+            if (counts[i] > 0) {
+                roots[index] = i;
+                starts[index + 1] = starts[index] + counts[i];
+                index++;
+            }
+        }
+    }
+
+    /**
+     * @return the root of the set of the vertex, which is the lowest vertex of the set
+     */
+    private int find(int vertex) {
+        int next;
+
+        while ((next = sets.get(vertex)) != vertex) {
+            // Path halving, a vertex only ever points to a lower one, so a lost race does no harm.
+            int grand = sets.get(next);
+            if (grand != next) {
+                sets.compareAndSet(vertex, next, grand);
+            }
+            vertex = next;
+        }
+
+        return vertex;
+    }
+
+    private void union(int first, int second) {
+        while (true) {
+            first = find(first);
+            second = find(second);
+
+            if (first == second) {
+                return;
+            }
+
+            // Hang the higher root under the lower one, retrying if another thread has moved it meanwhile.
+            int low = Math.min(first, second);
+            int high = Math.max(first, second);
+            if (sets.compareAndSet(high, high, low)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Merges the edges of a range of rows into the sets.
+     */
+    private final class LabelTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        LabelTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LabelTask(from, middle), new LabelTask(middle, to));
+                return;
+            }
+
+            for (int vertex = from; vertex < to; vertex++) {
+                for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                    int neighbor = graph.target(vertex, edge);
+
+                    // Every undirected edge is stored twice, once is enough.
+                    if (vertex < neighbor) {
+                        union(vertex, neighbor);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Colors a range of components, splitting it while it holds more than a few small components.
+     */
+    private final class ColorTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private long vertices = 0;
+        private long edges = 0;
+        private int depth = 0;
+
+        ColorTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && starts[to] - starts[from] > GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ColorTask(from, middle), new ColorTask(middle, to));
+                return;
+            }
+
+            for (int i = from; i < to && conflict.get() == TraversalEngine.NO_CONFLICT; i++) {
+                colorComponent(roots[i], starts[i]);
+            }
+
+            visitedVertices.addAndGet(vertices);
+            scannedEdges.addAndGet(edges);
+            largestQueue.accumulateAndGet(depth, Math::max);
+        }
+
+        /**
+         * Colors one component in its slice of the worklist, checking now and then whether another component has failed.
+         */
+        private void colorComponent(int start, int offset) {
+            int head = offset;
+            int tail = offset;
+
+            colors[start] = 1;
+            parent[start] = -1;
+            queue[tail++] = start;
+
+            search:
+            while (head < tail) {
+                if ((head & 255) == 0 && conflict.get() != TraversalEngine.NO_CONFLICT) {
+                    break;
+                }
+
+                depth = Math.max(depth, tail - head);
+                int vertex = queue[head++];
+                int color = colors[vertex];
+
+                for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                    int neighbor = graph.target(vertex, edge);
+                    edges++;
+
+                    if (colors[neighbor] == -1) {
+                        colors[neighbor] = (byte) (1 - color);
+                        parent[neighbor] = vertex;
+                        queue[tail++] = neighbor;
+                    } else if (colors[neighbor] == color) {
+                        conflict.compareAndSet(TraversalEngine.NO_CONFLICT, TraversalEngine.edge(vertex, neighbor));
+                        break search;
+                    }
+                }
+            }
+
+            vertices += tail - offset;
+        }
+    }
+}
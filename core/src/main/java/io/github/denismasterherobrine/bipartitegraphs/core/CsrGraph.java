@@ -0,0 +1,261 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+
+/**
+ * A graph stored in the compressed sparse row (CSR) form, the storage backend for sparse graphs.
+ *
+ * Neighbors of the vertex {@code v} are kept in {@code targets[offsets[v]]} up to {@code targets[offsets[v + 1] - 1]},
+ * so the memory and the traversal time depend on the number of edges instead of the size of the matrix.
+ * A loaded graph is never modified, so it may be shared between threads.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class CsrGraph implements AdjacencyGraph {
+    private final int[] offsets;
+    private final int[] targets;
+
+    /**
+     * Creates a graph from already built CSR arrays, the arrays are not copied.
+     *
+     * @param offsets an array of {@code size + 1} row start positions in the targets array
+     * @param targets an array of neighbors of all vertices, row after row
+     * @since 1.1.0
+     */
+    CsrGraph(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Creates a graph from already built CSR arrays, the arrays are not copied and must not be modified afterwards.
+     *
+     * @param offsets an array of {@code size + 1} row start positions in the targets array
+     * @param targets an array of neighbors of all vertices, row after row
+     * @return the graph over the arrays
+     * @throws IllegalArgumentException if the offsets don't start at 0, descend or don't end at the number of targets,
+     *         or a target is not a vertex of the graph.
+     * @since 1.1.0
+     */
+    public static CsrGraph of(int[] offsets, int[] targets) {
+        if (offsets.length == 0 || offsets[0] != 0) {
+            throw new IllegalArgumentException("The offsets don't start at 0");
+        }
+
+        int size = offsets.length - 1;
+
+        for (int vertex = 0; vertex < size; vertex++) {
+            if (offsets[vertex + 1] < offsets[vertex]) {
+                throw new IllegalArgumentException("The offsets descend at the vertex " + vertex);
+            }
+        }
+
+        if (offsets[size] != targets.length) {
+            throw new IllegalArgumentException("The offsets end at " + offsets[size] + " instead of " + targets.length + " targets");
+        }
+
+        for (int target : targets) {
+            if (target < 0 || target >= size) {
+                throw new IllegalArgumentException("The target " + target + " is out of " + size + " vertices");
+            }
+        }
+
+        return new CsrGraph(offsets, targets);
+    }
+
+    /**
+     * Compresses an existing adjacency matrix, every cell holding 1 is treated as an edge, the same as by {@link MatrixGraph}.
+     *
+     * @param MatrixHolder the adjacency matrix to be compressed
+     * @return a CSR copy of the matrix
+     * @since 1.1.0
+     */
+    public static CsrGraph fromMatrix(int[][] MatrixHolder) {
+        Builder builder = new Builder(MatrixHolder.length);
+
+        for (int[] row : MatrixHolder) {
+            for (int column = 0; column < row.length; column++) {
+                if (row[column] == 1) {
+                    builder.add(column);
+                }
+            }
+            builder.endRow();
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Compresses a graph held in any other storage.
+     *
+     * @param graph the graph to be compressed
+     * @return a CSR copy of the graph, or the same graph if it's already compressed
+     * @since 1.1.0
+     */
+    public static CsrGraph fromGraph(AdjacencyGraph graph) {
+        if (graph instanceof CsrGraph) {
+            return (CsrGraph) graph;
+        }
+
+        Builder builder = new Builder(graph.size());
+
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                builder.add(graph.target(vertex, edge));
+            }
+            builder.endRow();
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Joins graphs holding consecutive ranges of rows into a single graph.
+     *
+     * @param size the number of vertices of the joined graph, rows after the last part are left empty
+     * @param parts graphs whose vertices are the rows of the joined graph, in order
+     * @return the joined graph
+     * @since 1.1.0
+     */
+    public static CsrGraph concat(int size, CsrGraph[] parts) {
+        int[] offsets = new int[size + 1];
+        int count = 0;
+
+        for (CsrGraph part : parts) {
+            count += part.entries();
+        }
+
+        int[] targets = new int[count];
+        int row = 0;
+        count = 0;
+
+        for (CsrGraph part : parts) {
+            int rows = part.size();
+
+            for (int i = 1; i <= rows; i++) {
+                offsets[row + i] = count + part.offsets[i];
+            }
+
+            System.arraycopy(part.targets, 0, targets, count, part.entries());
+            row += rows;
+            count += part.entries();
+        }
+
+        // Rows that are missing from the parts have no neighbors.
+        for (int i = row + 1; i <= size; i++) {
+            offsets[i] = count;
+        }
+
+        return new CsrGraph(offsets, targets);
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    @Override
+    public int nextEdge(int vertex, int cursor) {
+        return cursor < offsets[vertex + 1] ? cursor : -1;
+    }
+
+    @Override
+    public int target(int vertex, int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * @return the number of stored adjacency entries, every undirected edge is counted twice
+     * @since 1.1.0
+     */
+    public int entries() {
+        return offsets[offsets.length - 1];
+    }
+
+    /**
+     * @return the row start positions, not a copy
+     * @since 1.1.0
+     */
+    int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * @return the neighbors of all vertices, not a copy
+     * @since 1.1.0
+     */
+    int[] targets() {
+        return targets;
+    }
+
+    /**
+     * Collects rows of a graph one by one, growing the targets array on demand.
+     *
+     * @since 1.1.0
+     */
+    public static final class Builder {
+        private final int[] offsets;
+        private int[] targets = new int[16];
+        private int row = 0;
+        private int count = 0;
+        private boolean built = false;
+
+        /**
+         * @param size the number of vertices of the graph
+         */
+        public Builder(int size) {
+            this.offsets = new int[size + 1];
+        }
+
+        /**
+         * Adds a neighbor to the current row.
+         *
+         * @param target the neighbor vertex
+         * @throws IllegalStateException if the graph is already built.
+         */
+        public void add(int target) {
+            checkNotBuilt();
+            if (count == targets.length) {
+                targets = Arrays.copyOf(targets, count << 1);
+            }
+            targets[count++] = target;
+        }
+
+        /**
+         * Finishes the current row and moves to the next one.
+         *
+         * @throws IllegalStateException if the graph is already built.
+         */
+        public void endRow() {
+            checkNotBuilt();
+            offsets[++row] = count;
+        }
+
+        /**
+         * @return the graph built from the collected rows, missing rows are left empty, the builder can't be used afterwards
+         */
+        public CsrGraph build() {
+            checkNotBuilt();
+            built = true;
+
+            // Rows that were never ended have no neighbors.
+            for (int i = row + 1; i < offsets.length; i++) {
+                offsets[i] = count;
+            }
+
+            return new CsrGraph(offsets, Arrays.copyOf(targets, count));
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("The graph is already built");
+            }
+        }
+    }
+}
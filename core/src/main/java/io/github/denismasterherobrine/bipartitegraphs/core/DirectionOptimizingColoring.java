@@ -0,0 +1,232 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+
+/**
+ * A direction-optimizing breadth-first coloring of bit-packed matrices.
+ *
+ * While the frontier is small, it's expanded top-down: every frontier vertex pushes its colors to its neighbors.
+ * Once the edges of the frontier outweigh the edges of the unvisited vertices, it switches to bottom-up:
+ * every unvisited vertex ANDs its row with the frontier bitset 64 columns at a time and stops at the first parent it finds.
+ * Same-colored neighbors lie on the same level, so each level is checked against itself with the same word-parallel AND.
+ *
+ * Rows are expected to be symmetric, as the matrix of an undirected graph is.
+ * Partitions are the same as the ones of {@link TraversalEngine}, and the order of the result is the levels one after another.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class DirectionOptimizingColoring {
+    // Switch to bottom-up once the frontier has more than 1/ALPHA of the unvisited edges,
+    // and back to top-down once the frontier has less than 1/BETA of the vertices.
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    private final BitMatrix matrix;
+    private final int size;
+    private final int words;
+    private final byte[] colors;
+    private final int[] parent;
+    private final int[] degree;
+    private final int[] order;
+    private final long[] visited;
+    private final long[] frontierBits;
+    private int[] frontier;
+    private int[] next;
+    private long unvisitedEdges = 0;
+    private long visitedVertices = 0;
+    private long scannedEdges = 0;
+    private int largestFrontier = 0;
+
+    private DirectionOptimizingColoring(BitMatrix matrix) {
+        this.matrix = matrix;
+        this.size = matrix.size();
+        this.words = (size + 63) >>> 6;
+        this.colors = new byte[size];
+        this.parent = new int[size];
+        this.degree = new int[size];
+        this.order = new int[size];
+        this.visited = new long[words];
+        this.frontierBits = new long[words];
+        this.frontier = new int[size];
+        this.next = new int[size];
+    }
+
+    /**
+     * Checks whether the graph is bipartite and finds the proof of the answer in a single breadth-first search.
+     *
+     * @param matrix the symmetric bit-packed matrix of the graph
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public static BipartiteResult check(BitMatrix matrix) {
+        return check(matrix, null);
+    }
+
+    /**
+     * Checks the graph the same way as {@link #check(BitMatrix)} and records the counters of the traversal.
+     * The edges are counted as the degrees of the expanded levels, which is the most either direction may scan,
+     * and the largest queue is the largest level.
+     *
+     * @param matrix the symmetric bit-packed matrix of the graph
+     * @param metrics the metrics to record the visited vertices, the scanned edges and the largest level to, or null
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public static BipartiteResult check(BitMatrix matrix, PhaseMetrics metrics) {
+        DirectionOptimizingColoring coloring = new DirectionOptimizingColoring(matrix);
+        BipartiteResult result = coloring.run();
+
+        if (metrics != null) {
+            metrics.traversal(coloring.visitedVertices, coloring.scannedEdges, coloring.largestFrontier);
+        }
+
+        return result;
+    }
+
+    private BipartiteResult run() {
+        Arrays.fill(colors, (byte) -1);
+
+        for (int i = 0; i < size; i++) {
+            long[] row = matrix.row(i);
+            for (long word : row) {
+                degree[i] += Long.bitCount(word);
+            }
+            unvisitedEdges += degree[i];
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (colors[i] == -1) {
+                long conflict = colorComponent(i);
+
+                if (conflict != TraversalEngine.NO_CONFLICT) {
+                    return new BipartiteResult(null, TraversalEngine.oddCycle(conflict, parent));
+                }
+            }
+        }
+
+        return new BipartiteResult(colors, null, order);
+    }
+
+    private long colorComponent(int start) {
+        visit(start, -1, (byte) 1);
+        frontier[0] = start;
+        int frontierSize = 1;
+        boolean bottomUp = false;
+
+        while (frontierSize > 0) {
+            long frontierEdges = 0;
+            for (int i = 0; i < frontierSize; i++) {
+                int vertex = frontier[i];
+                frontierBits[vertex >>> 6] |= 1L << vertex;
+                frontierEdges += degree[vertex];
+            }
+
+            scannedEdges += frontierEdges;
+            largestFrontier = Math.max(largestFrontier, frontierSize);
+
+            // An edge inside a level joins two vertices of the same color.
+            for (int i = 0; i < frontierSize; i++) {
+                int vertex = frontier[i];
+                int neighbor = firstCommon(matrix.row(vertex), frontierBits);
+
+                if (neighbor != -1) {
+                    return TraversalEngine.edge(vertex, neighbor);
+                }
+            }
+
+            if (bottomUp) {
+                bottomUp = frontierSize >= size / BETA;
+            } else {
+                bottomUp = frontierEdges > unvisitedEdges / ALPHA;
+            }
+
+            byte color = colors[frontier[0]];
+            int nextSize = bottomUp ? bottomUpStep(color) : topDownStep(frontierSize, color);
+
+            for (int i = 0; i < frontierSize; i++) {
+                int vertex = frontier[i];
+                frontierBits[vertex >>> 6] &= ~(1L << vertex);
+            }
+
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
+        }
+
+        return TraversalEngine.NO_CONFLICT;
+    }
+
+    /**
+     * Every frontier vertex visits its unvisited neighbors.
+     */
+    private int topDownStep(int frontierSize, byte color) {
+        int nextSize = 0;
+
+        for (int i = 0; i < frontierSize; i++) {
+            int vertex = frontier[i];
+
+            for (int neighbor = matrix.nextSetBit(vertex, 0); neighbor != -1; neighbor = matrix.nextSetBit(vertex, neighbor + 1)) {
+                if (colors[neighbor] == -1) {
+                    visit(neighbor, vertex, (byte) (1 - color));
+                    next[nextSize++] = neighbor;
+                }
+            }
+        }
+
+        return nextSize;
+    }
+
+    /**
+     * Every unvisited vertex looks for a parent in the frontier bitset.
+     */
+    private int bottomUpStep(byte color) {
+        int nextSize = 0;
+
+        for (int index = 0; index < words; index++) {
+            long unvisited = ~visited[index];
+
+            // Bits past the last vertex are not vertices.
+            if (index == words - 1 && (size & 63) != 0) {
+                unvisited &= (1L << size) - 1;
+            }
+
+            while (unvisited != 0) {
+                int vertex = (index << 6) + Long.numberOfTrailingZeros(unvisited);
+                unvisited &= unvisited - 1;
+
+                int found = firstCommon(matrix.row(vertex), frontierBits);
+                if (found != -1) {
+                    visit(vertex, found, (byte) (1 - color));
+                    next[nextSize++] = vertex;
+                }
+            }
+        }
+
+        return nextSize;
+    }
+
+    private void visit(int vertex, int from, byte color) {
+        colors[vertex] = color;
+        parent[vertex] = from;
+        visited[vertex >>> 6] |= 1L << vertex;
+        unvisitedEdges -= degree[vertex];
+        order[(int) visitedVertices++] = vertex;
+    }
+
+    /**
+     * @return the lowest vertex set in both bitsets, or -1 if there are none
+     */
+    private int firstCommon(long[] row, long[] bits) {
+        for (int index = 0; index < words; index++) {
+            long common = row[index] & bits[index];
+
+            if (common != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(common);
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+
+/**
+ * A graph which keeps the answer of the bipartiteness check up to date while edges are added.
+ *
+ * Edges are merged into a {@link ParityUnionFind}, so every insertion takes a nearly constant amortized time.
+ * Edges joining two components are also kept as a spanning forest, which gives the odd cycle on demand:
+ * the first edge closing an odd cycle plus the forest path between its ends.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class DynamicBipartiteGraph {
+    private final ParityUnionFind sets;
+
+    // The spanning forest as linked lists of edges, a forest never has more than 2 * (n - 1) edge ends.
+    private final int[] forestHead;
+    private final int[] forestNext;
+    private final int[] forestTarget;
+    private int forestEnds = 0;
+
+    private long conflict = TraversalEngine.NO_CONFLICT;
+
+    /**
+     * Creates a graph without edges.
+     *
+     * @param size the number of vertices of the graph
+     * @since 1.1.0
+     */
+    public DynamicBipartiteGraph(int size) {
+        sets = new ParityUnionFind(size);
+        forestHead = new int[size];
+        forestNext = new int[Math.max(2 * (size - 1), 0)];
+        forestTarget = new int[forestNext.length];
+        Arrays.fill(forestHead, -1);
+    }
+
+    /**
+     * Creates a graph with all edges of an existing one.
+     *
+     * @param graph the graph in any of the supported storages
+     * @return a graph ready to get more edges
+     * @since 1.1.0
+     */
+    public static DynamicBipartiteGraph fromGraph(AdjacencyGraph graph) {
+        DynamicBipartiteGraph dynamic = new DynamicBipartiteGraph(graph.size());
+
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                int neighbor = graph.target(vertex, edge);
+
+                // Every undirected edge is stored twice, once is enough.
+                if (vertex <= neighbor) {
+                    dynamic.addEdge(vertex, neighbor);
+                }
+            }
+        }
+
+        return dynamic;
+    }
+
+    /**
+     * @return the number of vertices of the graph
+     * @since 1.1.0
+     */
+    public int size() {
+        return sets.size();
+    }
+
+    /**
+     * Adds an edge to the graph.
+     *
+     * @param first the first end of the edge, starting at 0
+     * @param second the second end of the edge, starting at 0
+     * @return true if the graph is still bipartite
+     * @since 1.1.0
+     */
+    public boolean addEdge(int first, int second) {
+        // Adding edges never makes a graph bipartite again, so the first odd cycle stays the proof.
+        if (conflict != TraversalEngine.NO_CONFLICT) {
+            return false;
+        }
+
+        if (sets.find(first) != sets.find(second)) {
+            sets.union(first, second);
+            link(first, second);
+            link(second, first);
+        } else if (!sets.union(first, second)) {
+            conflict = TraversalEngine.edge(first, second);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if the graph is bipartite
+     * @since 1.1.0
+     */
+    public boolean isBipartite() {
+        return conflict == TraversalEngine.NO_CONFLICT;
+    }
+
+    /**
+     * Builds the partitions or the odd cycle of the graph as it is now.
+     *
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public BipartiteResult result() {
+        if (isBipartite()) {
+            return new BipartiteResult(sets.colors(), null);
+        }
+
+        return new BipartiteResult(null, forestCycle());
+    }
+
+    private void link(int vertex, int target) {
+        forestTarget[forestEnds] = target;
+        forestNext[forestEnds] = forestHead[vertex];
+        forestHead[vertex] = forestEnds++;
+    }
+
+    /**
+     * Walks the forest from one end of the conflicting edge to the other one, the path and the edge make an odd cycle,
+     * as both ends have the same parity.
+     */
+    private int[] forestCycle() {
+        int first = (int) (conflict >>> 32);
+        int second = (int) conflict;
+
+        if (first == second) {
+            return new int[]{first};
+        }
+
+        int[] parent = new int[size()];
+        int[] queue = new int[size()];
+        Arrays.fill(parent, -1);
+
+        int head = 0;
+        int tail = 0;
+        parent[first] = first;
+        queue[tail++] = first;
+
+        while (head < tail && parent[second] == -1) {
+            int vertex = queue[head++];
+
+            for (int end = forestHead[vertex]; end != -1; end = forestNext[end]) {
+                int neighbor = forestTarget[end];
+
+                if (parent[neighbor] == -1) {
+                    parent[neighbor] = vertex;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        // Count the path first to allocate the cycle exactly.
+        int length = 1;
+        for (int vertex = second; vertex != first; vertex = parent[vertex]) {
+            length++;
+        }
+
+        int[] cycle = new int[length];
+        int index = length - 1;
+        for (int vertex = second; vertex != first; vertex = parent[vertex]) {
+            cycle[index--] = vertex;
+        }
+        cycle[0] = first;
+
+        return cycle;
+    }
+}
@@ -0,0 +1,437 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+
+/**
+ * A graph which keeps the answer of the bipartiteness check up to date while edges are both added and removed.
+ *
+ * Every component keeps a spanning tree and the parity of each vertex in it. An edge outside the trees is odd
+ * if its ends have the same parity, and the graph is bipartite exactly when there are no odd edges,
+ * so only their number is kept. Tree and non-tree edges are stored as primitive lists of neighbors per vertex.
+ * <ul>
+ *     <li>Adding an edge between two components hangs the smaller one under the bigger one.</li>
+ *     <li>Removing a non-tree edge only scans the neighbors of its ends.</li>
+ *     <li>Removing a tree edge walks both halves of the tree in turns, so only the smaller half is fully visited,
+ *     and searches the non-tree edges of that half for a replacement edge reconnecting the tree.</li>
+ * </ul>
+ * So an update costs about the size of the smaller half it touches instead of a full recheck of the matrix.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class FullyDynamicBipartiteGraph {
+    private final int[] component;
+    private final int[] componentSize;
+    private final byte[] parity;
+    private final Neighbors tree;
+    private final Neighbors other;
+    private int oddEdges = 0;
+
+    // Component labels which are not used by any component at the moment.
+    private final int[] freeLabels;
+    private int freeCount = 0;
+
+    // Scratch buffers of the tree walks, a vertex is visited by the current walk if its stamp is the current one.
+    private final int[] stamps;
+    private int stamp = 0;
+    private final int[] firstQueue;
+    private final int[] secondQueue;
+
+    /**
+     * Creates a graph without edges.
+     *
+     * @param size the number of vertices of the graph
+     * @since 1.1.0
+     */
+    public FullyDynamicBipartiteGraph(int size) {
+        component = new int[size];
+        componentSize = new int[size];
+        parity = new byte[size];
+        tree = new Neighbors(size);
+        other = new Neighbors(size);
+        freeLabels = new int[size];
+        stamps = new int[size];
+        firstQueue = new int[size];
+        secondQueue = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            component[i] = i;
+            componentSize[i] = 1;
+        }
+    }
+
+    /**
+     * @return the number of vertices of the graph
+     * @since 1.1.0
+     */
+    public int size() {
+        return component.length;
+    }
+
+    /**
+     * Adds an edge to the graph, adding an existing edge changes nothing.
+     *
+     * @param first the first end of the edge, starting at 0
+     * @param second the second end of the edge, starting at 0
+     * @return true if the graph is bipartite after the update
+     * @since 1.1.0
+     */
+    public boolean addEdge(int first, int second) {
+        if (tree.contains(first, second) || other.contains(first, second)) {
+            return isBipartite();
+        }
+
+        if (component[first] != component[second]) {
+            merge(first, second);
+        } else {
+            other.add(first, second);
+            if (parity[first] == parity[second]) {
+                oddEdges++;
+            }
+        }
+
+        return isBipartite();
+    }
+
+    /**
+     * Removes an edge from the graph, removing a missing edge changes nothing.
+     *
+     * @param first the first end of the edge, starting at 0
+     * @param second the second end of the edge, starting at 0
+     * @return true if the graph is bipartite after the update
+     * @since 1.1.0
+     */
+    public boolean removeEdge(int first, int second) {
+        if (other.remove(first, second)) {
+            if (parity[first] == parity[second]) {
+                oddEdges--;
+            }
+        } else if (tree.remove(first, second)) {
+            split(first, second);
+        }
+
+        return isBipartite();
+    }
+
+    /**
+     * @return true if the graph is bipartite
+     * @since 1.1.0
+     */
+    public boolean isBipartite() {
+        return oddEdges == 0;
+    }
+
+    /**
+     * Builds the partitions or an odd cycle of the graph as it is now.
+     *
+     * Each component gets color 1 at its lowest vertex, so colors are the same as the ones of {@link TraversalEngine}.
+     * The cycle is made of the first odd edge and the tree path between its ends.
+     *
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public BipartiteResult result() {
+        if (!isBipartite()) {
+            for (int vertex = 0; vertex < size(); vertex++) {
+                for (int i = 0; i < other.count[vertex]; i++) {
+                    int neighbor = other.targets[vertex][i];
+
+                    if (parity[vertex] == parity[neighbor]) {
+                        return new BipartiteResult(null, treeCycle(vertex, neighbor));
+                    }
+                }
+            }
+        }
+
+        byte[] colors = new byte[size()];
+
+        // The parity of the lowest vertex of every component, -1 until it's seen.
+        byte[] flip = new byte[size()];
+        Arrays.fill(flip, (byte) -1);
+
+        for (int i = 0; i < colors.length; i++) {
+            if (flip[component[i]] == -1) {
+                flip[component[i]] = parity[i];
+            }
+            colors[i] = (byte) (1 ^ parity[i] ^ flip[component[i]]);
+        }
+
+        return new BipartiteResult(colors, null);
+    }
+
+    /**
+     * Joins two components with a tree edge, relabeling the smaller one.
+     */
+    private void merge(int first, int second) {
+        int big = first;
+        int small = second;
+
+        if (componentSize[component[big]] < componentSize[component[small]]) {
+            big = second;
+            small = first;
+        }
+
+        int label = component[big];
+        int smallLabel = component[small];
+        boolean flip = parity[first] == parity[second];
+        int count = walk(small, firstQueue);
+
+        // The ends must have different parities, flipping the whole smaller tree keeps its own edges as they were.
+        for (int i = 0; i < count; i++) {
+            int vertex = firstQueue[i];
+            component[vertex] = label;
+            if (flip) {
+                parity[vertex] ^= 1;
+            }
+        }
+
+        componentSize[label] += componentSize[smallLabel];
+        freeLabels[freeCount++] = smallLabel;
+        tree.add(first, second);
+    }
+
+    /**
+     * Handles a removed tree edge: either reconnects the halves of the tree with a replacement edge or splits the component.
+     */
+    private void split(int first, int second) {
+        int firstStamp = nextStamp();
+        int secondStamp = nextStamp();
+        int firstHead = 0;
+        int firstTail = 0;
+        int secondHead = 0;
+        int secondTail = 0;
+
+        stamps[first] = firstStamp;
+        firstQueue[firstTail++] = first;
+        stamps[second] = secondStamp;
+        secondQueue[secondTail++] = second;
+
+        // Walk both halves in turns until one of them is finished, which is the smaller one.
+        int[] half;
+        int count;
+        int halfStamp;
+
+        while (true) {
+            if (firstHead == firstTail) {
+                half = firstQueue;
+                count = firstTail;
+                halfStamp = firstStamp;
+                break;
+            }
+            if (secondHead == secondTail) {
+                half = secondQueue;
+                count = secondTail;
+                halfStamp = secondStamp;
+                break;
+            }
+
+            firstTail = expand(firstQueue[firstHead++], firstStamp, firstQueue, firstTail);
+            secondTail = expand(secondQueue[secondHead++], secondStamp, secondQueue, secondTail);
+        }
+
+        // Every non-tree edge leaving the smaller half goes to the other half, so any of them reconnects the tree.
+        for (int i = 0; i < count; i++) {
+            int vertex = half[i];
+
+            for (int j = 0; j < other.count[vertex]; j++) {
+                int neighbor = other.targets[vertex][j];
+
+                if (stamps[neighbor] != halfStamp) {
+                    reconnect(half, count, halfStamp, vertex, neighbor);
+                    return;
+                }
+            }
+        }
+
+        // No replacement, so the smaller half becomes a component of its own.
+        int label = freeLabels[--freeCount];
+
+        for (int i = 0; i < count; i++) {
+            component[half[i]] = label;
+        }
+
+        componentSize[label] = count;
+        componentSize[component[first == half[0] ? second : first]] -= count;
+    }
+
+    /**
+     * Turns a non-tree edge leaving the smaller half into a tree edge, flipping the half if the edge was odd.
+     */
+    private void reconnect(int[] half, int count, int halfStamp, int inside, int outside) {
+        other.remove(inside, outside);
+        tree.add(inside, outside);
+
+        if (parity[inside] != parity[outside]) {
+            return;
+        }
+
+        // The new tree edge was odd, it's even once the half is flipped.
+        oddEdges--;
+
+        for (int i = 0; i < count; i++) {
+            parity[half[i]] ^= 1;
+        }
+
+        // Only the edges between the halves change their oddness, the edges inside the half are flipped at both ends.
+        for (int i = 0; i < count; i++) {
+            int vertex = half[i];
+
+            for (int j = 0; j < other.count[vertex]; j++) {
+                int neighbor = other.targets[vertex][j];
+
+                if (stamps[neighbor] != halfStamp) {
+                    oddEdges += parity[vertex] == parity[neighbor] ? 1 : -1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects all vertices of the tree of the given vertex.
+     *
+     * @return the number of collected vertices
+     */
+    private int walk(int start, int[] queue) {
+        int walkStamp = nextStamp();
+        int head = 0;
+        int tail = 0;
+
+        stamps[start] = walkStamp;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            tail = expand(queue[head++], walkStamp, queue, tail);
+        }
+
+        return tail;
+    }
+
+    private int expand(int vertex, int walkStamp, int[] queue, int tail) {
+        for (int i = 0; i < tree.count[vertex]; i++) {
+            int neighbor = tree.targets[vertex][i];
+
+            if (stamps[neighbor] != walkStamp) {
+                stamps[neighbor] = walkStamp;
+                queue[tail++] = neighbor;
+            }
+        }
+
+        return tail;
+    }
+
+    /**
+     * Walks the tree from one end of an odd edge to the other one, the path and the edge make an odd cycle.
+     */
+    private int[] treeCycle(int first, int second) {
+        if (first == second) {
+            return new int[]{first};
+        }
+
+        int[] parent = new int[size()];
+        int walkStamp = nextStamp();
+        int head = 0;
+        int tail = 0;
+
+        stamps[first] = walkStamp;
+        firstQueue[tail++] = first;
+
+        while (head < tail && stamps[second] != walkStamp) {
+            int vertex = firstQueue[head++];
+
+            for (int i = 0; i < tree.count[vertex]; i++) {
+                int neighbor = tree.targets[vertex][i];
+
+                if (stamps[neighbor] != walkStamp) {
+                    stamps[neighbor] = walkStamp;
+                    parent[neighbor] = vertex;
+                    firstQueue[tail++] = neighbor;
+                }
+            }
+        }
+
+        // Count the path first to allocate the cycle exactly.
+        int length = 1;
+        for (int vertex = second; vertex != first; vertex = parent[vertex]) {
+            length++;
+        }
+
+        int[] cycle = new int[length];
+        int index = length - 1;
+        for (int vertex = second; vertex != first; vertex = parent[vertex]) {
+            cycle[index--] = vertex;
+        }
+        cycle[0] = first;
+
+        return cycle;
+    }
+
+    private int nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 0;
+        }
+
+        return ++stamp;
+    }
+
+    /**
+     * Undirected edges kept as a list of neighbors at both ends, a neighbor is removed by moving the last one in its place.
+     */
+    private static final class Neighbors {
+        private final int[][] targets;
+        private final int[] count;
+
+        Neighbors(int size) {
+            targets = new int[size][];
+            count = new int[size];
+        }
+
+        boolean contains(int first, int second) {
+            return indexOf(first, second) != -1;
+        }
+
+        void add(int first, int second) {
+            append(first, second);
+            append(second, first);
+        }
+
+        /**
+         * @return true if the edge was there
+         */
+        boolean remove(int first, int second) {
+            int index = indexOf(first, second);
+
+            if (index == -1) {
+                return false;
+            }
+
+            removeAt(first, index);
+            removeAt(second, indexOf(second, first));
+            return true;
+        }
+
+        private int indexOf(int vertex, int neighbor) {
+            for (int i = 0; i < count[vertex]; i++) {
+                if (targets[vertex][i] == neighbor) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private void append(int vertex, int neighbor) {
+            if (targets[vertex] == null) {
+                targets[vertex] = new int[4];
+            } else if (count[vertex] == targets[vertex].length) {
+                targets[vertex] = Arrays.copyOf(targets[vertex], count[vertex] << 1);
+            }
+
+            targets[vertex][count[vertex]++] = neighbor;
+        }
+
+        private void removeAt(int vertex, int index) {
+            targets[vertex][index] = targets[vertex][--count[vertex]];
+        }
+    }
+}
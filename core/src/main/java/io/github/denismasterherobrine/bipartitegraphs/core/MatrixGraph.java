@@ -0,0 +1,47 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * Adapts a plain {@code int[][]} adjacency matrix to the {@link AdjacencyGraph} view, the matrix is not copied.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class MatrixGraph implements AdjacencyGraph {
+    private final int[][] MatrixHolder;
+
+    /**
+     * @param MatrixHolder the adjacency matrix, a cell equal to 1 is an edge
+     * @since 1.1.0
+     */
+    public MatrixGraph(int[][] MatrixHolder) {
+        this.MatrixHolder = MatrixHolder;
+    }
+
+    @Override
+    public int size() {
+        return MatrixHolder.length;
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return 0;
+    }
+
+    @Override
+    public int nextEdge(int vertex, int cursor) {
+        int[] row = MatrixHolder[vertex];
+
+        for (int i = cursor; i < MatrixHolder.length; i++) {
+            if (row[i] == 1) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int target(int vertex, int edge) {
+        return edge;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * Receives the timings and the counters of every phase of a run: loading a graph, coloring it, searching for an odd cycle
+ * and writing the result.
+ *
+ * Listeners are called on the thread running the phase, so a listener shared by many threads must be thread-safe.
+ * While no listener is set, phases skip all measurements and only check a single field.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public interface MetricsListener {
+    /**
+     * Called right before a phase begins.
+     *
+     * @param phase the phase which begins
+     */
+    void phaseStarted(PipelinePhase phase);
+
+    /**
+     * Called right after a phase is finished, successfully or not.
+     *
+     * @param metrics the wall time and the counters of the phase, counters the phase doesn't measure are {@link PhaseMetrics#UNKNOWN}
+     */
+    void phaseFinished(PhaseMetrics metrics);
+}
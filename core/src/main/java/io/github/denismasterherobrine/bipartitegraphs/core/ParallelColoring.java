@@ -0,0 +1,179 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A level-synchronous breadth-first coloring, which spreads every level of a large component over a fork-join pool.
+ *
+ * Vertices of a level are split between tasks, and each uncolored neighbor is claimed by a compare-and-set on its color,
+ * so exactly one task colors it, becomes its parent and puts it into the next level.
+ * A neighbor of the same color is always on the same level, and it's reported as the conflicting edge,
+ * so the odd cycle is built by {@link TraversalEngine#oddCycle(long, int[])} the same way as in a sequential check.
+ * Levels are appended one after another to a single queue, which is the order of the result.
+ * Partitions are the same as the ones of {@link TraversalEngine}, while the cycle and the order within a level may differ from run to run.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class ParallelColoring {
+    // Levels smaller than this are not worth splitting, and it's also the smallest slice of a level taken by a task.
+    private static final int GRAIN = 256;
+
+    private final AdjacencyGraph graph;
+    private final AtomicIntegerArray colors;
+    private final int[] parent;
+    private final int[] queue;
+    private final AtomicInteger tail = new AtomicInteger();
+    private final AtomicLong conflict = new AtomicLong(TraversalEngine.NO_CONFLICT);
+    private final AtomicLong scannedEdges = new AtomicLong();
+    private int largestLevel = 0;
+
+    private ParallelColoring(AdjacencyGraph graph) {
+        this.graph = graph;
+        this.colors = new AtomicIntegerArray(graph.size());
+        this.parent = new int[graph.size()];
+        this.queue = new int[graph.size()];
+    }
+
+    /**
+     * Checks whether the given graph is bipartite, coloring each of its components level by level on the pool.
+     *
+     * @param graph the graph in any of the supported storages, it must be safe to read from many threads
+     * @param pool the pool to run the tasks on
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public static BipartiteResult check(AdjacencyGraph graph, ForkJoinPool pool) {
+        return check(graph, pool, null);
+    }
+
+    /**
+     * Checks the graph the same way as {@link #check(AdjacencyGraph, ForkJoinPool)} and records the counters of the traversal.
+     * Every task counts its edges locally and adds them up once, and the largest queue is the largest level.
+     *
+     * @param graph the graph in any of the supported storages, it must be safe to read from many threads
+     * @param pool the pool to run the tasks on
+     * @param metrics the metrics to record the visited vertices, the scanned edges and the largest level to, or null
+     * @return the partitions of the graph or its odd cycle
+     * @since 1.1.0
+     */
+    public static BipartiteResult check(AdjacencyGraph graph, ForkJoinPool pool, PhaseMetrics metrics) {
+        ParallelColoring coloring = new ParallelColoring(graph);
+        BipartiteResult result = coloring.run(pool);
+
+        if (metrics != null) {
+            metrics.traversal(coloring.tail.get(), coloring.scannedEdges.get(), coloring.largestLevel);
+        }
+
+        return result;
+    }
+
+    private BipartiteResult run(ForkJoinPool pool) {
+        int size = graph.size();
+
+        for (int i = 0; i < size; i++) {
+            colors.set(i, -1);
+        }
+
+        for (int i = 0; i < size && conflict.get() == TraversalEngine.NO_CONFLICT; i++) {
+            if (colors.get(i) == -1) {
+                colorComponent(i, pool);
+            }
+        }
+
+        if (conflict.get() != TraversalEngine.NO_CONFLICT) {
+            return new BipartiteResult(null, TraversalEngine.oddCycle(conflict.get(), parent));
+        }
+
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (byte) colors.get(i);
+        }
+
+        return new BipartiteResult(result, null, queue);
+    }
+
+    private void colorComponent(int start, ForkJoinPool pool) {
+        colors.set(start, 1);
+        parent[start] = -1;
+        int levelStart = tail.get();
+        queue[tail.getAndIncrement()] = start;
+        int levelEnd = tail.get();
+
+        // Tasks read the current level and append the next one right after it.
+        while (levelStart < levelEnd && conflict.get() == TraversalEngine.NO_CONFLICT) {
+            largestLevel = Math.max(largestLevel, levelEnd - levelStart);
+            LevelTask task = new LevelTask(levelStart, levelEnd);
+
+            // Small levels are expanded right away, the pool would only add overhead.
+            if (levelEnd - levelStart <= GRAIN) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+
+            levelStart = levelEnd;
+            levelEnd = tail.get();
+        }
+    }
+
+    /**
+     * Expands a slice of the current level into the next one.
+     */
+    private final class LevelTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        LevelTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LevelTask(from, middle), new LevelTask(middle, to));
+                return;
+            }
+
+            // Discovered vertices are collected locally and appended to the next level at once.
+            int[] found = new int[16];
+            int count = 0;
+            long edges = 0;
+
+            for (int i = from; i < to && conflict.get() == TraversalEngine.NO_CONFLICT; i++) {
+                int vertex = queue[i];
+                int color = colors.get(vertex);
+
+                for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                    int neighbor = graph.target(vertex, edge);
+                    int neighborColor = colors.get(neighbor);
+                    edges++;
+
+                    if (neighborColor == -1 && colors.compareAndSet(neighbor, -1, 1 - color)) {
+                        parent[neighbor] = vertex;
+
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count << 1);
+                        }
+                        found[count++] = neighbor;
+                    } else if (neighborColor == color) {
+                        // The outer loop stops on the conflict, and what is found so far is still counted.
+                        conflict.compareAndSet(TraversalEngine.NO_CONFLICT, TraversalEngine.edge(vertex, neighbor));
+                        break;
+                    }
+                }
+            }
+
+            int offset = tail.getAndAdd(count);
+            System.arraycopy(found, 0, queue, offset, count);
+            scannedEdges.addAndGet(edges);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+
+/**
+ * A union-find over the vertices of a graph, which also keeps the parity of every vertex relative to the root of its set.
+ *
+ * Adding an edge puts its ends into the same set on opposite sides, so a set is a connected component and the parity is
+ * its 2-coloring. An edge between two vertices of the same set and the same parity closes an odd cycle.
+ * Uses path compression and union by rank, so every operation takes a nearly constant amortized time, and only O(n) memory.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class ParityUnionFind {
+    private final int[] parent;
+    private final byte[] rank;
+    private final byte[] parity;
+
+    /**
+     * Creates a set for every vertex.
+     *
+     * @param size the number of vertices of the graph
+     * @since 1.1.0
+     */
+    public ParityUnionFind(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        parity = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+    }
+
+    /**
+     * @return the number of vertices of the graph
+     * @since 1.1.0
+     */
+    public int size() {
+        return parent.length;
+    }
+
+    /**
+     * Finds the root of the set of the vertex, compressing the path to it.
+     *
+     * @param vertex the vertex to be looked up
+     * @return the root of the set
+     * @since 1.1.0
+     */
+    public int find(int vertex) {
+        int root = vertex;
+        int total = 0;
+
+        // Walk up to the root, summing the parities on the way.
+        while (parent[root] != root) {
+            total ^= parity[root];
+            root = parent[root];
+        }
+
+        // Hang every vertex of the path right under the root, keeping its parity relative to the root.
+        int current = vertex;
+        while (current != root) {
+            int next = parent[current];
+            int rest = total ^ parity[current];
+
+            parent[current] = root;
+            parity[current] = (byte) total;
+
+            current = next;
+            total = rest;
+        }
+
+        return root;
+    }
+
+    /**
+     * @param vertex the vertex to be looked up
+     * @return the parity of the vertex relative to the root of its set, 0 or 1
+     * @since 1.1.0
+     */
+    public int parity(int vertex) {
+        // After find, the vertex is either the root or its child.
+        return find(vertex) == vertex ? 0 : parity[vertex];
+    }
+
+    /**
+     * Adds an edge, putting its ends on opposite sides.
+     *
+     * @param first the first end of the edge
+     * @param second the second end of the edge
+     * @return true if the edge joined two sets or connected opposite sides of a set,
+     *         false if it closed an odd cycle, in which case nothing is changed
+     * @since 1.1.0
+     */
+    public boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        int firstParity = first == firstRoot ? 0 : parity[first];
+        int secondParity = second == secondRoot ? 0 : parity[second];
+
+        if (firstRoot == secondRoot) {
+            return firstParity != secondParity;
+        }
+
+        // The ends must differ, so the root hung under the other one gets the parity which makes them differ.
+        byte rootParity = (byte) (firstParity ^ secondParity ^ 1);
+
+        if (rank[firstRoot] < rank[secondRoot]) {
+            parent[firstRoot] = secondRoot;
+            parity[firstRoot] = rootParity;
+        } else {
+            parent[secondRoot] = firstRoot;
+            parity[secondRoot] = rootParity;
+
+            if (rank[firstRoot] == rank[secondRoot]) {
+                rank[firstRoot]++;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Derives the 2-coloring of the graph from the parities.
+     *
+     * Each set gets color 1 at its lowest vertex, so colors are the same as the ones of {@link TraversalEngine}.
+     *
+     * @return the colors of every vertex, 1 or 0
+     * @since 1.1.0
+     */
+    public byte[] colors() {
+        byte[] colors = new byte[parent.length];
+
+        // The parity of the lowest vertex of every set, kept at the root of the set, -1 until it's seen.
+        byte[] flip = new byte[parent.length];
+        Arrays.fill(flip, (byte) -1);
+
+        for (int i = 0; i < parent.length; i++) {
+            int root = find(i);
+            int vertexParity = parity(i);
+
+            if (flip[root] == -1) {
+                flip[root] = (byte) vertexParity;
+            }
+            colors[i] = (byte) (1 ^ vertexParity ^ flip[root]);
+        }
+
+        return colors;
+    }
+}
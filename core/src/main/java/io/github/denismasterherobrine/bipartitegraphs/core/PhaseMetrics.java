@@ -0,0 +1,193 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * The wall time and the counters of a single phase, filled by the phase and passed to a {@link MetricsListener} once it's finished.
+ *
+ * Phases take a null instance while no listener is set, so every measurement is guarded by a single null check.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class PhaseMetrics {
+    /**
+     * The value of the counters which are not measured by a phase.
+     */
+    public static final long UNKNOWN = -1;
+
+    private final PipelinePhase phase;
+    private final MetricsListener listener;
+    private final long start;
+    private long nanos = UNKNOWN;
+    private long vertices = UNKNOWN;
+    private long edges = UNKNOWN;
+    private long maxQueueDepth = UNKNOWN;
+    private long bytesRead = UNKNOWN;
+    private long bytesWritten = UNKNOWN;
+    // Phases set their outcome once they succeed, so a phase left by an exception stays failed.
+    private PhaseOutcome outcome = PhaseOutcome.FAILED;
+
+    private PhaseMetrics(PipelinePhase phase, MetricsListener listener) {
+        this.phase = phase;
+        this.listener = listener;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Notifies the listener and starts the clock of a phase.
+     *
+     * @param listener the listener to be notified, may be null
+     * @param phase the phase which begins
+     * @return the metrics to be filled by the phase, or null if there is no listener
+     * @since 1.1.0
+     */
+    public static PhaseMetrics start(MetricsListener listener, PipelinePhase phase) {
+        if (listener == null) {
+            return null;
+        }
+
+        listener.phaseStarted(phase);
+        return new PhaseMetrics(phase, listener);
+    }
+
+    /**
+     * Stops the clock and passes the metrics to the listener the phase was started with.
+     *
+     * @since 1.1.0
+     */
+    public void finish() {
+        nanos = System.nanoTime() - start;
+        listener.phaseFinished(this);
+    }
+
+    /**
+     * Records the counters of a graph traversal.
+     *
+     * @param vertices the number of visited vertices
+     * @param edges the number of scanned adjacency entries, every undirected edge may be scanned from both of its ends
+     * @param maxQueueDepth the largest number of vertices waiting in the worklist at once
+     * @since 1.1.0
+     */
+    public void traversal(long vertices, long edges, long maxQueueDepth) {
+        this.vertices = vertices;
+        this.edges = edges;
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    /**
+     * Records the size of a loaded or written graph.
+     *
+     * @param vertices the number of vertices
+     * @param edges the number of adjacency entries, every undirected edge is counted twice
+     * @since 1.1.0
+     */
+    public void graph(long vertices, long edges) {
+        this.vertices = vertices;
+        this.edges = edges;
+    }
+
+    /**
+     * @param bytesRead the number of bytes read from files
+     * @since 1.1.0
+     */
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+
+    /**
+     * @param bytesWritten the number of bytes written to files
+     * @since 1.1.0
+     */
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    /**
+     * @param vertices the number of processed vertices
+     * @since 1.1.0
+     */
+    public void setVertices(long vertices) {
+        this.vertices = vertices;
+    }
+
+    /**
+     * @param outcome how the phase has ended
+     * @since 1.1.0
+     */
+    public void setOutcome(PhaseOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    /**
+     * @param result the result of a check, which tells whether the graph is bipartite
+     * @return the same result
+     * @since 1.1.0
+     */
+    public BipartiteResult setOutcome(BipartiteResult result) {
+        this.outcome = result.isBipartite() ? PhaseOutcome.BIPARTITE : PhaseOutcome.NOT_BIPARTITE;
+        return result;
+    }
+
+    /**
+     * @return the phase these metrics belong to
+     * @since 1.1.0
+     */
+    public PipelinePhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the wall time of the phase in nanoseconds, or {@link #UNKNOWN} until it's finished
+     * @since 1.1.0
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return the number of vertices loaded, visited or written by the phase, or {@link #UNKNOWN}
+     * @since 1.1.0
+     */
+    public long getVertices() {
+        return vertices;
+    }
+
+    /**
+     * @return the number of adjacency entries loaded or scanned by the phase, or {@link #UNKNOWN}
+     * @since 1.1.0
+     */
+    public long getEdges() {
+        return edges;
+    }
+
+    /**
+     * @return the largest number of vertices waiting in the worklist of a traversal at once, or {@link #UNKNOWN}
+     * @since 1.1.0
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return the number of bytes read by the phase, or {@link #UNKNOWN}
+     * @since 1.1.0
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return the number of bytes written by the phase, or {@link #UNKNOWN}
+     * @since 1.1.0
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * @return how the phase has ended, {@link PhaseOutcome#FAILED} if it has thrown an exception
+     * @since 1.1.0
+     */
+    public PhaseOutcome getOutcome() {
+        return outcome;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * How a phase reported to a {@link MetricsListener} has ended.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public enum PhaseOutcome {
+    /**
+     * A graph is loaded or a result is written.
+     */
+    COMPLETED,
+
+    /**
+     * The graph is found to be bipartite.
+     */
+    BIPARTITE,
+
+    /**
+     * The graph is found to be not bipartite.
+     */
+    NOT_BIPARTITE,
+
+    /**
+     * The phase has thrown an exception.
+     */
+    FAILED
+}
@@ -0,0 +1,29 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * The phases of a run of the Bipartite Graphs API, as reported to a {@link MetricsListener}.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public enum PipelinePhase {
+    /**
+     * A graph is read from a file.
+     */
+    LOAD,
+
+    /**
+     * A graph is 2-colored, which also finds an odd cycle if it's not bipartite.
+     */
+    COLORING,
+
+    /**
+     * An odd cycle is searched for on its own.
+     */
+    ODD_CYCLE,
+
+    /**
+     * A result is written to a file.
+     */
+    WRITE
+}
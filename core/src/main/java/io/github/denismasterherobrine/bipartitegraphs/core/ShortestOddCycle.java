@@ -0,0 +1,176 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Searches for a shortest odd cycle of a graph, so the certificate of a non-bipartite graph stays compact.
+ *
+ * A breadth-first search is run from every vertex, and the first edge joining two vertices of the same level
+ * closes an odd walk of {@code 2 * level + 1} edges. The shortest of these walks is a shortest odd cycle.
+ * A search only enters vertices above its root, since every cycle is found from its lowest vertex, and it stops
+ * as soon as its levels can't beat the best cycle found by any search so far. Searches run on a fork-join pool,
+ * each worker taking the next root in turn and reusing its own scratch arrays, which are allocated with its first root.
+ * There are never more workers than vertices, so a small graph doesn't pay for the scratch arrays of idle workers.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class ShortestOddCycle {
+    private final AdjacencyGraph graph;
+    private final AtomicInteger nextRoot = new AtomicInteger();
+    private final AtomicInteger best = new AtomicInteger();
+    private final AtomicLong visitedVertices = new AtomicLong();
+    private final AtomicLong scannedEdges = new AtomicLong();
+    private final AtomicInteger largestQueue = new AtomicInteger();
+    private int[] cycle;
+
+    private ShortestOddCycle(AdjacencyGraph graph, int[] cycle) {
+        this.graph = graph;
+        this.cycle = cycle;
+        this.best.set(cycle.length);
+    }
+
+    /**
+     * Checks whether the given graph is bipartite, and if it's not, finds a shortest odd cycle of it.
+     *
+     * @param graph the graph in any of the supported storages, it must be safe to read from many threads
+     * @param pool the pool to run the searches on
+     * @return the partitions of the graph or a shortest odd cycle of it
+     * @since 1.1.0
+     */
+    public static BipartiteResult find(AdjacencyGraph graph, ForkJoinPool pool) {
+        return find(graph, pool, null);
+    }
+
+    /**
+     * Finds a shortest odd cycle the same way as {@link #find(AdjacencyGraph, ForkJoinPool)} and records the counters
+     * of the coloring and all searches together: the visited vertices and the scanned edges are summed up,
+     * and the largest queue is the largest of them all.
+     *
+     * @param graph the graph in any of the supported storages, it must be safe to read from many threads
+     * @param pool the pool to run the searches on
+     * @param metrics the metrics to record the visited vertices, the scanned edges and the largest queue to, or null
+     * @return the partitions of the graph or a shortest odd cycle of it
+     * @since 1.1.0
+     */
+    public static BipartiteResult find(AdjacencyGraph graph, ForkJoinPool pool, PhaseMetrics metrics) {
+        BipartiteResult result = new BipartiteChecker().check(graph, metrics);
+
+        if (result.isBipartite()) {
+            return result;
+        }
+
+        // The cycle of the coloring conflict is the first bound to beat.
+        ShortestOddCycle search = new ShortestOddCycle(graph, result.getCycleVertices());
+        List<Worker> workers = new ArrayList<>();
+
+        for (int i = Math.min(pool.getParallelism(), graph.size()); i > 0; i--) {
+            workers.add(search.new Worker());
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(workers);
+            }
+        });
+
+        if (metrics != null) {
+            metrics.traversal(metrics.getVertices() + search.visitedVertices.get(),
+                    metrics.getEdges() + search.scannedEdges.get(),
+                    Math.max(metrics.getMaxQueueDepth(), search.largestQueue.get()));
+        }
+
+        return new BipartiteResult(null, search.cycle);
+    }
+
+    private synchronized void offer(int[] found) {
+        if (found.length < cycle.length) {
+            cycle = found;
+            best.set(found.length);
+        }
+    }
+
+    /**
+     * Runs searches from the roots one by one until the roots are over or no shorter cycle may exist.
+     */
+    private final class Worker extends RecursiveAction {
+        private int[] level;
+        private int[] parent;
+        private int[] queue;
+        private long vertices = 0;
+        private long edges = 0;
+        private int depth = 0;
+
+        @Override
+        protected void compute() {
+            int root;
+            // Nothing is shorter than a self-loop, and once a triangle is known, a search only scans the edges of its root.
+            while (best.get() > 1 && (root = nextRoot.getAndIncrement()) < graph.size()) {
+                // A worker which never gets a root never allocates its 3 * n scratch ints.
+                if (level == null) {
+                    level = new int[graph.size()];
+                    parent = new int[graph.size()];
+                    queue = new int[graph.size()];
+                    Arrays.fill(level, -1);
+                }
+                search(root);
+            }
+
+            visitedVertices.addAndGet(vertices);
+            scannedEdges.addAndGet(edges);
+            largestQueue.accumulateAndGet(depth, Math::max);
+        }
+
+        private void search(int root) {
+            int head = 0;
+            int tail = 0;
+
+            level[root] = 0;
+            parent[root] = -1;
+            queue[tail++] = root;
+
+            search:
+            while (head < tail) {
+                depth = Math.max(depth, tail - head);
+                int vertex = queue[head++];
+                int distance = level[vertex];
+
+                // An edge within this level closes a walk of 2 * distance + 1 edges, which must be shorter than the best.
+                if (2 * distance + 1 >= best.get()) {
+                    break;
+                }
+
+                for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                    int neighbor = graph.target(vertex, edge);
+                    edges++;
+
+                    if (neighbor < root) {
+                        continue;
+                    }
+
+                    if (level[neighbor] == -1) {
+                        level[neighbor] = distance + 1;
+                        parent[neighbor] = vertex;
+                        queue[tail++] = neighbor;
+                    } else if (level[neighbor] == distance) {
+                        offer(TraversalEngine.oddCycle(TraversalEngine.edge(vertex, neighbor), parent));
+                        break search;
+                    }
+                }
+            }
+
+            vertices += tail;
+
+            // Only the reached vertices are cleared, so a search costs as much as the part of the graph it has seen.
+            for (int i = 0; i < tail; i++) {
+                level[queue[i]] = -1;
+            }
+        }
+    }
+}
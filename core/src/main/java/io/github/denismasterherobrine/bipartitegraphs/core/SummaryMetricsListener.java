@@ -0,0 +1,114 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The default {@link MetricsListener}, which prints a line for every finished phase and sums the counters up per phase.
+ *
+ * The sums are kept as counters, which can be read at any time or printed as a summary at the end of a run.
+ * Counters a phase doesn't measure are left out of the sums. It's safe to share a single listener between threads.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class SummaryMetricsListener implements MetricsListener {
+    // Indices of the counters of each phase.
+    public static final int RUNS = 0;
+    public static final int NANOS = 1;
+    public static final int VERTICES = 2;
+    public static final int EDGES = 3;
+    public static final int MAX_QUEUE_DEPTH = 4;
+    public static final int BYTES_READ = 5;
+    public static final int BYTES_WRITTEN = 6;
+
+    private static final String[] NAMES = {"runs", "ms", "vertices", "edges", "max queue", "read B", "written B"};
+
+    private final PrintStream out;
+    private final Map<PipelinePhase, long[]> totals = new EnumMap<>(PipelinePhase.class);
+
+    /**
+     * @param out the stream to print every finished phase to, or null to keep the counters only
+     * @since 1.1.0
+     */
+    public SummaryMetricsListener(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void phaseStarted(PipelinePhase phase) {
+    }
+
+    @Override
+    public void phaseFinished(PhaseMetrics metrics) {
+        long[] values = {1, metrics.getNanos(), metrics.getVertices(), metrics.getEdges(), metrics.getMaxQueueDepth(),
+                metrics.getBytesRead(), metrics.getBytesWritten()};
+
+        synchronized (this) {
+            long[] sums = totals.get(metrics.getPhase());
+            if (sums == null) {
+                sums = new long[values.length];
+                totals.put(metrics.getPhase(), sums);
+            }
+
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == PhaseMetrics.UNKNOWN) {
+                    continue;
+                }
+                // The queue depth is the largest one, everything else is summed up.
+                sums[i] = i == MAX_QUEUE_DEPTH ? Math.max(sums[i], values[i]) : sums[i] + values[i];
+            }
+        }
+
+        if (out != null) {
+            out.println(format(metrics.getPhase(), values, false) + ", " + metrics.getOutcome());
+        }
+    }
+
+    /**
+     * @param phase the phase of the counters
+     * @return a copy of the counters of the phase indexed by {@link #RUNS} and the other indices, all zeros if it has never run
+     * @since 1.1.0
+     */
+    public synchronized long[] getTotals(PipelinePhase phase) {
+        long[] sums = totals.get(phase);
+        return sums == null ? new long[NAMES.length] : sums.clone();
+    }
+
+    /**
+     * Prints the sums of the counters of every phase which has run at least once.
+     *
+     * @param out the stream to print to
+     * @since 1.1.0
+     */
+    public void printSummary(PrintStream out) {
+        for (PipelinePhase phase : PipelinePhase.values()) {
+            long[] sums = getTotals(phase);
+
+            if (sums[RUNS] > 0) {
+                out.println(format(phase, sums, true));
+            }
+        }
+    }
+
+    private static String format(PipelinePhase phase, long[] values, boolean withRuns) {
+        StringBuilder line = new StringBuilder(phase.name());
+
+        for (int i = withRuns ? RUNS : NANOS; i < values.length; i++) {
+            if (values[i] == PhaseMetrics.UNKNOWN || i > NANOS && values[i] == 0) {
+                continue;
+            }
+
+            line.append(line.length() == phase.name().length() ? ": " : ", ").append(NAMES[i]).append(' ');
+            if (i == NANOS) {
+                line.append(String.format(Locale.ROOT, "%.3f", values[i] / 1e6));
+            } else {
+                line.append(values[i]);
+            }
+        }
+
+        return line.toString();
+    }
+}
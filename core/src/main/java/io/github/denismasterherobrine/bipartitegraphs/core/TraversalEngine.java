@@ -0,0 +1,141 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+/**
+ * Iterative traversals of the Bipartite Graphs API.
+ *
+ * All of them are driven by preallocated {@code int[]} worklists instead of recursion,
+ * so even very long path-like components are processed on a default thread stack without any per-vertex allocation.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+final class TraversalEngine {
+    /**
+     * Returned by the coloring methods when there are no two adjacent vertices of the same color.
+     */
+    static final long NO_CONFLICT = -1L;
+
+    private TraversalEngine() {
+    }
+
+    /**
+     * <p>
+     *      Colors every vertex of the graph into two colors with a breadth-first search.
+     * </p>
+     * Each component gets color 1 at its lowest vertex, so partitions are the same as the ones of a depth-first search.
+     * Components are queued one after another into the same worklist, so it's left holding the order of discovery.
+     *
+     * @param graph the graph to be processed
+     * @param colors an array of colors to be filled, {@code -1} marks vertices which are not colored yet, may be longer than the graph
+     * @param queue a worklist with room for every vertex of the graph, left holding the vertices in the order they were colored
+     * @param parent an array to be filled with the parent of each vertex in the BFS tree, {@code -1} for roots
+     * @param metrics the metrics to record the counters of the traversal to, or null
+     * @return {@link #NO_CONFLICT} if the graph is bipartite, otherwise the first edge with both ends of the same color
+     *         packed by {@link #edge(int, int)}, and the coloring is left incomplete
+     * @since 1.1.0
+     */
+    static long colorGraph(AdjacencyGraph graph, byte[] colors, int[] queue, int[] parent, PhaseMetrics metrics) {
+        int size = graph.size();
+        int head = 0;
+        int tail = 0;
+        // Counted in locals, so the traversal costs the same with or without metrics.
+        long edges = 0;
+        int depth = 0;
+        long conflict = NO_CONFLICT;
+
+        search:
+        for (int i = 0; i < size; i++) {
+            if (colors[i] != -1) {
+                continue;
+            }
+
+            // Start the next component once the previous one is drained.
+            colors[i] = 1;
+            parent[i] = -1;
+            queue[tail++] = i;
+
+            while (head < tail) {
+                depth = Math.max(depth, tail - head);
+
+                int vertex = queue[head++];
+                int color = colors[vertex];
+
+                for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                    int neighbor = graph.target(vertex, edge);
+                    edges++;
+
+                    if (colors[neighbor] == -1) {
+                        // Every vertex is colored only once, so it's queued only once too
+                        colors[neighbor] = (byte) (1 - color);
+                        parent[neighbor] = vertex;
+                        queue[tail++] = neighbor;
+                    } else if (colors[neighbor] == color) {
+                        // If the adjacent vertex has the same color as the current vertex, the graph is not bipartite
+                        conflict = edge(vertex, neighbor);
+                        break search;
+                    }
+                }
+            }
+        }
+
+        if (metrics != null) {
+            metrics.traversal(tail, edges, depth);
+        }
+
+        return conflict;
+    }
+
+    /**
+     * Builds an odd cycle from an edge whose ends got the same color during a breadth-first search.
+     *
+     * Both ends of such an edge lie on the same level of the BFS tree, so walking up both parent chains in lockstep
+     * meets at their lowest common ancestor, and the two chains plus the edge always form a cycle of odd length.
+     * Takes a time proportional to the length of the cycle.
+     *
+     * @param conflict the edge packed by {@link #edge(int, int)}
+     * @param parent the parents of the BFS tree the conflict was found in
+     * @return the vertices of the cycle, starting at one end of the edge and finishing at the other one
+     * @since 1.1.0
+     */
+    static int[] oddCycle(long conflict, int[] parent) {
+        int first = (int) (conflict >>> 32);
+        int second = (int) conflict;
+
+        // Find the lowest common ancestor and the height of the chains above the edge.
+        int a = first;
+        int b = second;
+        int height = 0;
+
+        while (a != b) {
+            a = parent[a];
+            b = parent[b];
+            height++;
+        }
+
+        // The ancestor is shared by both chains, so it's written only once.
+        int[] cycle = new int[2 * height + 1];
+
+        a = first;
+        b = second;
+
+        for (int i = 0; i < height; i++) {
+            cycle[i] = a;
+            cycle[cycle.length - 1 - i] = b;
+            a = parent[a];
+            b = parent[b];
+        }
+        cycle[height] = a;
+
+        return cycle;
+    }
+
+    /**
+     * @param first the first end of the edge
+     * @param second the second end of the edge
+     * @return both ends packed into a single value
+     * @since 1.1.0
+     */
+    static long edge(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Compares {@link ComponentParallelColoring} with {@link BipartiteChecker} on graphs made of many shuffled components,
+ * so the rows are labeled and the components are colored by many tasks.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+class ComponentParallelColoringTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void randomGraphsMatchSequentialCheck() {
+        Random random = new Random(31);
+
+        for (int round = 0; round < 60; round++) {
+            // Components both above and below the grain of 1024 vertices, so ranges of components are split between tasks.
+            int[] components = new int[1 + random.nextInt(30)];
+            for (int i = 0; i < components.length; i++) {
+                components[i] = random.nextBoolean() ? 1025 + random.nextInt(4000) : 1 + random.nextInt(200);
+            }
+
+            int oddEdges = round % 3 == 0 ? 0 : random.nextInt(3);
+            CsrGraph graph = RandomGraphs.generate(random, components, 1 + random.nextInt(6), oddEdges);
+            BipartiteResult expected = new BipartiteChecker().check(graph);
+            BipartiteResult actual = ComponentParallelColoring.check(graph, pool);
+
+            RandomGraphs.assertMatches(graph, expected, actual);
+            if (expected.isBipartite()) {
+                // Slices follow the lowest vertices of the components, so the order is exactly the sequential one.
+                assertArrayEquals(expected.getOrder(), actual.getOrder());
+            }
+        }
+    }
+
+    @Test
+    void smallGraphsMatchSequentialCheck() {
+        Random random = new Random(37);
+
+        for (int round = 0; round < 500; round++) {
+            int[] components = new int[1 + random.nextInt(8)];
+            for (int i = 0; i < components.length; i++) {
+                components[i] = 1 + random.nextInt(12);
+            }
+
+            CsrGraph graph = RandomGraphs.generate(random, components, random.nextInt(4), random.nextInt(2));
+            BipartiteResult expected = new BipartiteChecker().check(graph);
+            BipartiteResult actual = ComponentParallelColoring.check(graph, pool);
+
+            RandomGraphs.assertMatches(graph, expected, actual);
+            if (expected.isBipartite()) {
+                assertArrayEquals(expected.getOrder(), actual.getOrder());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Compares {@link DirectionOptimizingColoring} with {@link BipartiteChecker} on sparse graphs, which are colored top-down,
+ * and on dense ones, whose middle levels are colored bottom-up.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+class DirectionOptimizingColoringTest {
+    @Test
+    void randomGraphsMatchSequentialCheck() {
+        Random random = new Random(41);
+
+        for (int round = 0; round < 120; round++) {
+            int size = 64 + random.nextInt(1500);
+            int[] components = {size, 1 + random.nextInt(100), 1 + random.nextInt(3)};
+            // From a few neighbors per vertex up to a tenth of the graph.
+            double averageDegree = round % 2 == 0 ? 1 + random.nextInt(4) : size / (10.0 + random.nextInt(40));
+            int oddEdges = round % 3 == 0 ? 0 : random.nextInt(3);
+
+            assertMatches(BitMatrix.fromGraph(RandomGraphs.generate(random, components, averageDegree, oddEdges)));
+        }
+    }
+
+    @Test
+    void smallGraphsMatchSequentialCheck() {
+        Random random = new Random(43);
+
+        for (int round = 0; round < 500; round++) {
+            // Sizes around a multiple of 64 leave a partial last word in every row.
+            int[] components = {1 + random.nextInt(70), 1 + random.nextInt(10)};
+            assertMatches(BitMatrix.fromGraph(RandomGraphs.generate(random, components, random.nextInt(8), random.nextInt(2))));
+        }
+    }
+
+    private static void assertMatches(BitMatrix matrix) {
+        BipartiteResult expected = new BipartiteChecker().check(matrix);
+        BipartiteResult actual = DirectionOptimizingColoring.check(matrix);
+
+        RandomGraphs.assertMatches(matrix, expected, actual);
+        if (expected.isBipartite()) {
+            RandomGraphs.assertSameLevels(matrix, expected.getOrder(), actual.getOrder());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares every update of {@link FullyDynamicBipartiteGraph} with a full check of the same edges from scratch.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+class FullyDynamicBipartiteGraphTest {
+    @Test
+    void randomUpdatesMatchRecomputation() {
+        Random random = new Random(11);
+
+        for (int round = 0; round < 300; round++) {
+            int size = 1 + random.nextInt(30);
+            int[][] matrix = new int[size][size];
+            FullyDynamicBipartiteGraph graph = new FullyDynamicBipartiteGraph(size);
+
+            for (int update = 0; update < size * 8; update++) {
+                int first = random.nextInt(size);
+                int second = random.nextInt(size);
+
+                // Self-loops are rare, so they don't make most of the graphs odd.
+                if (first == second && random.nextInt(5) != 0) {
+                    continue;
+                }
+
+                boolean bipartite;
+                if (random.nextInt(3) == 0 || matrix[first][second] == 0 && random.nextBoolean()) {
+                    matrix[first][second] = matrix[second][first] = 1;
+                    bipartite = graph.addEdge(first, second);
+                } else {
+                    matrix[first][second] = matrix[second][first] = 0;
+                    bipartite = graph.removeEdge(first, second);
+                }
+
+                assertMatches(matrix, graph, bipartite);
+            }
+        }
+    }
+
+    @Test
+    void splitHangsTheSmallerHalfBackElsewhere() {
+        int[][] matrix = new int[10][10];
+        FullyDynamicBipartiteGraph graph = new FullyDynamicBipartiteGraph(10);
+
+        for (int vertex = 0; vertex < 9; vertex++) {
+            add(matrix, graph, vertex, vertex + 1);
+        }
+
+        // The last vertex is the smaller half and becomes a component of its own, there is no replacement edge.
+        remove(matrix, graph, 8, 9);
+        // It's hung under the bigger component at another vertex, which takes its parity from there.
+        add(matrix, graph, 9, 1);
+        assertTrue(graph.isBipartite());
+        // The vertices 1, 2 and 9 make a triangle now.
+        add(matrix, graph, 9, 2);
+        assertFalse(graph.isBipartite());
+        assertEquals(3, graph.result().getCycleVertices().length);
+    }
+
+    @Test
+    void reconnectFlipsTheParityOfTheHalf() {
+        int[][] matrix = new int[3][3];
+        FullyDynamicBipartiteGraph graph = new FullyDynamicBipartiteGraph(3);
+
+        add(matrix, graph, 0, 1);
+        add(matrix, graph, 1, 2);
+        // An odd edge of a triangle.
+        add(matrix, graph, 0, 2);
+        assertFalse(graph.isBipartite());
+
+        // The odd edge replaces the removed tree edge, so the vertex 2 is flipped to fit it.
+        remove(matrix, graph, 1, 2);
+        assertTrue(graph.isBipartite());
+    }
+
+    @Test
+    void reconnectFlipsTheOddnessOfTheEdgesBetweenTheHalves() {
+        int[][] matrix = new int[4][4];
+        FullyDynamicBipartiteGraph graph = new FullyDynamicBipartiteGraph(4);
+
+        add(matrix, graph, 0, 1);
+        add(matrix, graph, 1, 2);
+        add(matrix, graph, 2, 3);
+        // Both of these edges are odd while the tree is the path 0, 1, 2, 3.
+        add(matrix, graph, 0, 2);
+        add(matrix, graph, 1, 3);
+        assertFalse(graph.isBipartite());
+
+        // A replacement flips one half, which makes both edges between the halves even: 0, 1, 3, 2 is an even cycle.
+        remove(matrix, graph, 1, 2);
+        assertTrue(graph.isBipartite());
+
+        // Putting the edge back closes odd cycles again.
+        add(matrix, graph, 1, 2);
+        assertFalse(graph.isBipartite());
+    }
+
+    @Test
+    void selfLoopIsAnOddCycleOfItsOwn() {
+        int[][] matrix = new int[3][3];
+        FullyDynamicBipartiteGraph graph = new FullyDynamicBipartiteGraph(3);
+
+        add(matrix, graph, 0, 1);
+        add(matrix, graph, 2, 2);
+        assertArrayEquals(new int[]{2}, graph.result().getCycleVertices());
+
+        remove(matrix, graph, 2, 2);
+        assertTrue(graph.isBipartite());
+    }
+
+    private static void add(int[][] matrix, FullyDynamicBipartiteGraph graph, int first, int second) {
+        matrix[first][second] = matrix[second][first] = 1;
+        assertMatches(matrix, graph, graph.addEdge(first, second));
+    }
+
+    private static void remove(int[][] matrix, FullyDynamicBipartiteGraph graph, int first, int second) {
+        matrix[first][second] = matrix[second][first] = 0;
+        assertMatches(matrix, graph, graph.removeEdge(first, second));
+    }
+
+    /**
+     * Checks the answer, the partitions and the cycle of the graph against a check of the matrix from scratch.
+     */
+    private static void assertMatches(int[][] matrix, FullyDynamicBipartiteGraph graph, boolean bipartite) {
+        BipartiteResult expected = new BipartiteChecker().check(new MatrixGraph(matrix));
+        BipartiteResult actual = graph.result();
+
+        assertEquals(expected.isBipartite(), bipartite);
+        assertEquals(expected.isBipartite(), actual.isBipartite());
+
+        if (bipartite) {
+            assertArrayEquals(expected.getPartitions(), actual.getPartitions());
+            return;
+        }
+
+        // Any odd cycle is a proof, so it's checked to be one instead of being compared.
+        int[] cycle = actual.getCycleVertices();
+        Set<Integer> vertices = new HashSet<>();
+
+        assertEquals(1, cycle.length % 2);
+        for (int i = 0; i < cycle.length; i++) {
+            assertTrue(vertices.add(cycle[i]));
+            assertEquals(1, matrix[cycle[i]][cycle[(i + 1) % cycle.length]]);
+        }
+    }
+}
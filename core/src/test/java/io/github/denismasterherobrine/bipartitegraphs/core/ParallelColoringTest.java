@@ -0,0 +1,86 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares {@link ParallelColoring} with {@link BipartiteChecker} on graphs whose levels are split between tasks.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+class ParallelColoringTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void randomGraphsMatchSequentialCheck() {
+        Random random = new Random(23);
+        long largestLevel = 0;
+
+        for (int round = 0; round < 60; round++) {
+            // A large component whose middle levels hold thousands of vertices, and a few small ones around it.
+            int[] components = {5000 + random.nextInt(15000), 1 + random.nextInt(300), 1 + random.nextInt(3)};
+            int oddEdges = round % 3 == 0 ? 0 : random.nextInt(3);
+            CsrGraph graph = RandomGraphs.generate(random, components, 2 + random.nextInt(6), oddEdges);
+
+            PhaseMetrics metrics = PhaseMetrics.start(new IgnoringListener(), PipelinePhase.COLORING);
+            BipartiteResult expected = new BipartiteChecker().check(graph);
+            BipartiteResult actual = ParallelColoring.check(graph, pool, metrics);
+
+            RandomGraphs.assertMatches(graph, expected, actual);
+            if (expected.isBipartite()) {
+                RandomGraphs.assertSameLevels(graph, expected.getOrder(), actual.getOrder());
+            }
+            largestLevel = Math.max(largestLevel, metrics.getMaxQueueDepth());
+        }
+
+        // Levels above the grain of 256 vertices are the ones which are forked.
+        assertTrue(largestLevel > 256);
+    }
+
+    @Test
+    void smallGraphsMatchSequentialCheck() {
+        Random random = new Random(29);
+
+        for (int round = 0; round < 500; round++) {
+            int[] components = {1 + random.nextInt(40), 1 + random.nextInt(10)};
+            CsrGraph graph = RandomGraphs.generate(random, components, random.nextInt(4), random.nextInt(2));
+            BipartiteResult expected = new BipartiteChecker().check(graph);
+            BipartiteResult actual = ParallelColoring.check(graph, pool);
+
+            RandomGraphs.assertMatches(graph, expected, actual);
+            if (expected.isBipartite()) {
+                RandomGraphs.assertSameLevels(graph, expected.getOrder(), actual.getOrder());
+            }
+        }
+    }
+
+    /**
+     * Lets the metrics of a coloring be recorded without being reported anywhere.
+     */
+    private static final class IgnoringListener implements MetricsListener {
+        @Override
+        public void phaseStarted(PipelinePhase phase) {
+        }
+
+        @Override
+        public void phaseFinished(PhaseMetrics metrics) {
+        }
+    }
+}
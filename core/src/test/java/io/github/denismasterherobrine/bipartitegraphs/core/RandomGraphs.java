@@ -0,0 +1,206 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Random graphs for the tests of the colorings and the checks of their results against {@link BipartiteChecker}.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+final class RandomGraphs {
+    private RandomGraphs() {
+    }
+
+    /**
+     * Builds a graph of the given components, whose vertices are shuffled over the whole graph.
+     * Every component is a random tree with random edges between its two sides, and every odd edge joins
+     * two vertices of the same side within a component, which may also be a self-loop.
+     *
+     * @param random the source of the sides and the edges
+     * @param components the number of vertices of every component
+     * @param averageDegree the expected degree of a vertex
+     * @param oddEdges the number of edges within a side, 0 for a bipartite graph
+     * @return the graph with sorted rows
+     */
+    static CsrGraph generate(Random random, int[] components, double averageDegree, int oddEdges) {
+        int size = 0;
+        for (int component : components) {
+            size += component;
+        }
+
+        int[] vertices = new int[size];
+        for (int i = 0; i < size; i++) {
+            vertices[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int vertex = vertices[i];
+            vertices[i] = vertices[j];
+            vertices[j] = vertex;
+        }
+
+        boolean[] sides = new boolean[size];
+        Set<Long> edges = new HashSet<>();
+        int offset = 0;
+
+        for (int component : components) {
+            // A tree through the component keeps it connected, every vertex hangs on an earlier one of the other side.
+            for (int i = 1; i < component; i++) {
+                int first = vertices[offset + i];
+                int second = vertices[offset + random.nextInt(i)];
+                sides[first] = !sides[second];
+                edges.add(pair(first, second));
+            }
+
+            for (long edge = 0; edge < (long) (component * averageDegree / 2); edge++) {
+                int first = vertices[offset + random.nextInt(component)];
+                int second = vertices[offset + random.nextInt(component)];
+
+                if (sides[first] != sides[second]) {
+                    edges.add(pair(first, second));
+                }
+            }
+
+            offset += component;
+        }
+
+        for (int i = 0; i < oddEdges; i++) {
+            int component = random.nextInt(components.length);
+            int start = 0;
+            for (int j = 0; j < component; j++) {
+                start += components[j];
+            }
+
+            int first = vertices[start + random.nextInt(components[component])];
+            int second;
+            do {
+                second = vertices[start + random.nextInt(components[component])];
+            } while (sides[first] != sides[second]);
+
+            edges.add(pair(first, second));
+        }
+
+        return build(size, edges);
+    }
+
+    private static long pair(int first, int second) {
+        return (long) Math.min(first, second) << 32 | Math.max(first, second);
+    }
+
+    private static CsrGraph build(int size, Set<Long> edges) {
+        int[] degrees = new int[size];
+        for (long edge : edges) {
+            int first = (int) (edge >>> 32);
+            int second = (int) edge;
+            degrees[first]++;
+            if (first != second) {
+                degrees[second]++;
+            }
+        }
+
+        int[][] rows = new int[size][];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new int[degrees[i]];
+        }
+        Arrays.fill(degrees, 0);
+
+        for (long edge : edges) {
+            int first = (int) (edge >>> 32);
+            int second = (int) edge;
+            rows[first][degrees[first]++] = second;
+            if (first != second) {
+                rows[second][degrees[second]++] = first;
+            }
+        }
+
+        CsrGraph.Builder builder = new CsrGraph.Builder(size);
+        for (int[] row : rows) {
+            Arrays.sort(row);
+            for (int target : row) {
+                builder.add(target);
+            }
+            builder.endRow();
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Checks the answer and the partitions against the expected result, and the cycle to be an odd cycle of the graph,
+     * as any odd cycle is a proof.
+     */
+    static void assertMatches(AdjacencyGraph graph, BipartiteResult expected, BipartiteResult actual) {
+        assertEquals(expected.isBipartite(), actual.isBipartite());
+
+        if (expected.isBipartite()) {
+            assertArrayEquals(expected.getColors(), actual.getColors());
+            return;
+        }
+
+        int[] cycle = actual.getCycleVertices();
+        Set<Integer> vertices = new HashSet<>();
+
+        assertEquals(1, cycle.length % 2);
+        for (int i = 0; i < cycle.length; i++) {
+            assertTrue(vertices.add(cycle[i]));
+            assertTrue(hasEdge(graph, cycle[i], cycle[(i + 1) % cycle.length]));
+        }
+    }
+
+    /**
+     * Checks the order to visit the same vertices level by level as the order of a sequential check,
+     * the vertices within a level may come in any order.
+     */
+    static void assertSameLevels(AdjacencyGraph graph, int[] expected, int[] actual) {
+        int size = graph.size();
+        int[] levels = new int[size];
+        int[] components = new int[size];
+
+        // The expected order is a breadth-first search, so every vertex is met after its parent.
+        Arrays.fill(levels, -1);
+        for (int i = 0; i < size; i++) {
+            int vertex = expected[i];
+
+            if (levels[vertex] == -1) {
+                levels[vertex] = 0;
+                components[vertex] = vertex;
+            }
+
+            for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                int neighbor = graph.target(vertex, edge);
+                if (levels[neighbor] == -1) {
+                    levels[neighbor] = levels[vertex] + 1;
+                    components[neighbor] = components[vertex];
+                }
+            }
+        }
+
+        assertEquals(size, actual.length);
+        boolean[] seen = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            assertFalse(seen[actual[i]]);
+            seen[actual[i]] = true;
+            assertEquals(components[expected[i]], components[actual[i]]);
+            assertEquals(levels[expected[i]], levels[actual[i]]);
+        }
+    }
+
+    private static boolean hasEdge(AdjacencyGraph graph, int first, int second) {
+        for (int edge = graph.nextEdge(first, graph.firstEdge(first)); edge != -1; edge = graph.nextEdge(first, edge + 1)) {
+            if (graph.target(first, edge) == second) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.denismasterherobrine.bipartitegraphs.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the cycles found by {@link ShortestOddCycle} with the shortest odd cycles found by enumerating every simple cycle.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+class ShortestOddCycleTest {
+    // More workers than most of the graphs have vertices, so the searches race for the roots and some workers get none.
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void randomGraphsMatchBruteForce() {
+        Random random = new Random(17);
+
+        for (int round = 0; round < 2000; round++) {
+            int size = 1 + random.nextInt(9);
+            int[][] matrix = new int[size][size];
+            double density = random.nextDouble();
+
+            for (int first = 0; first < size; first++) {
+                for (int second = first; second < size; second++) {
+                    // Self-loops are rare, so most of the graphs have longer odd cycles to be found.
+                    boolean edge = first == second ? random.nextInt(20) == 0 : random.nextDouble() < density;
+                    if (edge) {
+                        matrix[first][second] = matrix[second][first] = 1;
+                    }
+                }
+            }
+
+            assertShortest(matrix, ShortestOddCycle.find(new MatrixGraph(matrix), pool));
+            assertShortest(matrix, ShortestOddCycle.find(CsrGraph.fromMatrix(matrix), pool));
+            assertShortest(matrix, ShortestOddCycle.find(BitMatrix.fromMatrix(matrix), pool));
+        }
+    }
+
+    @Test
+    void selfLoopBeatsTheCycleOfTheColoring() {
+        // A pentagon found first by the coloring, and a self-loop on its last vertex.
+        int[][] matrix = new int[5][5];
+        for (int vertex = 0; vertex < 5; vertex++) {
+            matrix[vertex][(vertex + 1) % 5] = matrix[(vertex + 1) % 5][vertex] = 1;
+        }
+        matrix[4][4] = 1;
+
+        assertArrayEquals(new int[]{4}, ShortestOddCycle.find(new MatrixGraph(matrix), pool).getCycleVertices());
+    }
+
+    @Test
+    void singleVertexWithMoreWorkersThanVertices() {
+        assertArrayEquals(new int[]{0}, ShortestOddCycle.find(new MatrixGraph(new int[][]{{1}}), pool).getCycleVertices());
+        assertTrue(ShortestOddCycle.find(new MatrixGraph(new int[][]{{0}}), pool).isBipartite());
+    }
+
+    /**
+     * Checks the answer against {@link BipartiteChecker}, and the cycle to be an odd cycle of the shortest length.
+     */
+    private static void assertShortest(int[][] matrix, BipartiteResult actual) {
+        BipartiteResult expected = new BipartiteChecker().check(new MatrixGraph(matrix));
+
+        assertEquals(expected.isBipartite(), actual.isBipartite());
+
+        if (expected.isBipartite()) {
+            assertArrayEquals(expected.getPartitions(), actual.getPartitions());
+            return;
+        }
+
+        int[] cycle = actual.getCycleVertices();
+        Set<Integer> vertices = new HashSet<>();
+
+        assertEquals(shortestOddCycle(matrix), cycle.length);
+        for (int i = 0; i < cycle.length; i++) {
+            assertTrue(vertices.add(cycle[i]));
+            assertEquals(1, matrix[cycle[i]][cycle[(i + 1) % cycle.length]]);
+        }
+    }
+
+    /**
+     * @return the length of the shortest odd cycle, a self-loop is a cycle of length 1
+     */
+    private static int shortestOddCycle(int[][] matrix) {
+        int shortest = Integer.MAX_VALUE;
+
+        for (int vertex = 0; vertex < matrix.length; vertex++) {
+            if (matrix[vertex][vertex] == 1) {
+                return 1;
+            }
+        }
+
+        // Every simple cycle is walked from its lowest vertex, in both directions.
+        for (int start = 0; start < matrix.length; start++) {
+            boolean[] onPath = new boolean[matrix.length];
+            onPath[start] = true;
+            shortest = Math.min(shortest, walk(matrix, start, start, 1, onPath));
+        }
+
+        return shortest;
+    }
+
+    private static int walk(int[][] matrix, int start, int vertex, int length, boolean[] onPath) {
+        int shortest = Integer.MAX_VALUE;
+
+        for (int next = start; next < matrix.length; next++) {
+            if (matrix[vertex][next] != 1) {
+                continue;
+            }
+
+            if (next == start) {
+                // Going back along the only edge of the path is not a cycle.
+                if (length >= 3 && length % 2 == 1) {
+                    shortest = Math.min(shortest, length);
+                }
+            } else if (!onPath[next]) {
+                onPath[next] = true;
+                shortest = Math.min(shortest, walk(matrix, start, next, length + 1, onPath));
+                onPath[next] = false;
+            }
+        }
+
+        return shortest;
+    }
+}
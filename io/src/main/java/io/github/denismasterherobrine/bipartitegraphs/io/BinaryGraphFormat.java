@@ -0,0 +1,293 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.AdjacencyGraph;
+import io.github.denismasterherobrine.bipartitegraphs.core.BitMatrix;
+import io.github.denismasterherobrine.bipartitegraphs.core.CsrGraph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A compact binary file format for graphs, which is loaded with bulk copies instead of parsing the text of input.txt.
+ *
+ * A file starts with a 24 bytes long header: the "BPGF" magic, the version, the kind of the storage, the number of vertices
+ * and the number of CSR entries (0 for bit-packed rows). The header is followed either by the words of the bit-packed rows,
+ * row after row, or by the CSR offsets and targets. All numbers are little-endian.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class BinaryGraphFormat {
+    static final int VERSION = 1;
+    static final int KIND_BIT_MATRIX = 0;
+    static final int KIND_CSR = 1;
+
+    private static final byte[] MAGIC = {'B', 'P', 'G', 'F'};
+    private static final int HEADER_SIZE = 24;
+    private static final DirectBufferCache BUFFERS = new DirectBufferCache(1 << 20);
+
+    private BinaryGraphFormat() {
+    }
+
+    /**
+     * Checks whether the file starts with the magic of the binary format, so it's not a text file.
+     *
+     * @param path A path to the input data file.
+     * @return true if the file is a binary graph file
+     * @throws IOException if the file doesn't exist.
+     * @since 1.1.0
+     */
+    public static boolean isBinary(String path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(MAGIC.length);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    return false;
+                }
+            }
+        }
+
+        buffer.flip();
+        return isMagic(buffer);
+    }
+
+    /**
+     * Loads a graph in the storage it was saved from.
+     *
+     * @param path A path to the binary graph file.
+     * @return a {@link BitMatrix} or a {@link CsrGraph}
+     * @throws IOException if the file doesn't exist, is not a binary graph file, is truncated or corrupt.
+     * @since 1.1.0
+     */
+    public static AdjacencyGraph read(String path) throws IOException {
+        ByteBuffer buffer = BUFFERS.take().order(ByteOrder.LITTLE_ENDIAN);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            buffer.limit(0);
+            fill(channel, buffer, HEADER_SIZE);
+
+            if (!isMagic(buffer)) {
+                throw new IOException(path + " is not a binary graph file");
+            }
+            buffer.position(buffer.position() + MAGIC.length);
+
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary graph version " + version);
+            }
+
+            int kind = buffer.getInt();
+            int size = buffer.getInt();
+            long entries = buffer.getLong();
+
+            if (size < 0 || size == Integer.MAX_VALUE) {
+                throw new IOException("corrupt binary graph " + path + ": " + size + " vertices");
+            }
+
+            if (kind == KIND_BIT_MATRIX) {
+                if (entries != 0) {
+                    throw new IOException("corrupt binary graph " + path + ": " + entries + " CSR entries of a bit matrix");
+                }
+
+                // Check the length first, so a corrupt header can't make the rows allocated before the file runs out.
+                long words = (size + 63L) >>> 6;
+                checkLength(path, channel, HEADER_SIZE + size * words * Long.BYTES);
+
+                BitMatrix.Builder builder = new BitMatrix.Builder(size);
+                long[] row = new long[(int) words];
+
+                try {
+                    for (int vertex = 0; vertex < size; vertex++) {
+                        getLongs(channel, buffer, row);
+                        builder.setRow(vertex, row);
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("corrupt binary graph " + path + ": " + e.getMessage(), e);
+                }
+                return builder.build();
+            } else if (kind == KIND_CSR) {
+                if (entries < 0 || entries > Integer.MAX_VALUE) {
+                    throw new IOException("corrupt binary graph " + path + ": " + entries + " CSR entries");
+                }
+
+                checkLength(path, channel, HEADER_SIZE + (size + 1L + entries) * Integer.BYTES);
+
+                int[] offsets = new int[size + 1];
+                int[] targets = new int[(int) entries];
+                getInts(channel, buffer, offsets);
+                getInts(channel, buffer, targets);
+
+                try {
+                    return CsrGraph.of(offsets, targets);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("corrupt binary graph " + path + ": " + e.getMessage(), e);
+                }
+            }
+
+            throw new IOException("Unknown kind of binary graph " + kind);
+        } finally {
+            BUFFERS.give(buffer);
+        }
+    }
+
+    /**
+     * Saves a bit-packed matrix.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param matrix the matrix to be saved
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void write(String path, BitMatrix matrix) throws IOException {
+        ByteBuffer buffer = BUFFERS.take().order(ByteOrder.LITTLE_ENDIAN);
+
+        try (FileChannel channel = open(path)) {
+            header(buffer, KIND_BIT_MATRIX, matrix.size(), 0);
+            long[] words = new long[(matrix.size() + 63) >>> 6];
+
+            for (int row = 0; row < matrix.size(); row++) {
+                matrix.copyRow(row, words);
+                putLongs(channel, buffer, words);
+            }
+            flush(channel, buffer);
+        } finally {
+            BUFFERS.give(buffer);
+        }
+    }
+
+    /**
+     * Saves a compressed sparse row graph.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param graph the graph to be saved
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void write(String path, CsrGraph graph) throws IOException {
+        ByteBuffer buffer = BUFFERS.take().order(ByteOrder.LITTLE_ENDIAN);
+
+        try (FileChannel channel = open(path)) {
+            header(buffer, KIND_CSR, graph.size(), graph.entries());
+
+            for (int vertex = 0; vertex <= graph.size(); vertex++) {
+                putInt(channel, buffer, vertex < graph.size() ? graph.firstEdge(vertex) : graph.entries());
+            }
+
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                    putInt(channel, buffer, graph.target(vertex, edge));
+                }
+            }
+            flush(channel, buffer);
+        } finally {
+            BUFFERS.give(buffer);
+        }
+    }
+
+    private static boolean isMagic(ByteBuffer buffer) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(buffer.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void checkLength(String path, FileChannel channel, long expected) throws IOException {
+        if (channel.size() != expected) {
+            throw new IOException("corrupt binary graph " + path + ": " + channel.size() + " bytes instead of " + expected);
+        }
+    }
+
+    private static FileChannel open(String path) throws IOException {
+        return FileChannel.open(Paths.get(path), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void header(ByteBuffer buffer, int kind, int size, long entries) {
+        buffer.put(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(kind);
+        buffer.putInt(size);
+        buffer.putLong(entries);
+    }
+
+    private static void putLongs(FileChannel channel, ByteBuffer buffer, long[] values) throws IOException {
+        int offset = 0;
+
+        while (offset < values.length) {
+            if (buffer.remaining() < Long.BYTES) {
+                flush(channel, buffer);
+            }
+
+            int count = Math.min(buffer.remaining() / Long.BYTES, values.length - offset);
+            buffer.asLongBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            offset += count;
+        }
+    }
+
+    private static void putInt(FileChannel channel, ByteBuffer buffer, int value) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush(channel, buffer);
+        }
+        buffer.putInt(value);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void getLongs(FileChannel channel, ByteBuffer buffer, long[] values) throws IOException {
+        int offset = 0;
+
+        while (offset < values.length) {
+            if (buffer.remaining() < Long.BYTES) {
+                fill(channel, buffer, Long.BYTES);
+            }
+
+            int count = Math.min(buffer.remaining() / Long.BYTES, values.length - offset);
+            buffer.asLongBuffer().get(values, offset, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            offset += count;
+        }
+    }
+
+    private static void getInts(FileChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        int offset = 0;
+
+        while (offset < values.length) {
+            if (buffer.remaining() < Integer.BYTES) {
+                fill(channel, buffer, Integer.BYTES);
+            }
+
+            int count = Math.min(buffer.remaining() / Integer.BYTES, values.length - offset);
+            buffer.asIntBuffer().get(values, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+        }
+    }
+
+    /**
+     * Reads as much as fits into the buffer, keeping its unread bytes, until at least the given number of bytes is available.
+     */
+    private static void fill(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        buffer.compact();
+
+        while (buffer.position() < needed) {
+            if (channel.read(buffer) == -1) {
+                throw new IOException("The binary graph file is truncated");
+            }
+        }
+
+        buffer.flip();
+    }
+}
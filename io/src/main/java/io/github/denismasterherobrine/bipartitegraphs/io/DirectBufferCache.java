@@ -0,0 +1,49 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps one direct buffer per thread, so reading and writing files doesn't allocate native memory on every call.
+ *
+ * A direct buffer is freed only when the garbage collector finds it unreachable, so allocating a new one per file
+ * grows the native memory of a process which loads or writes many small files. A buffer is taken for the time of
+ * a single file and given back afterwards, a nested use on the same thread gets a fresh buffer instead of a shared one.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+final class DirectBufferCache {
+    private final int capacity;
+    private final ThreadLocal<ByteBuffer> cached = new ThreadLocal<>();
+
+    /**
+     * @param capacity the size of the buffers in bytes
+     */
+    DirectBufferCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the cached buffer of the current thread, cleared, or a new one if it's already taken
+     */
+    ByteBuffer take() {
+        ByteBuffer buffer = cached.get();
+
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+
+        cached.set(null);
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the current thread, it must not be used by the caller afterwards.
+     *
+     * @param buffer the buffer returned by {@link #take()}
+     */
+    void give(ByteBuffer buffer) {
+        cached.set(buffer);
+    }
+}
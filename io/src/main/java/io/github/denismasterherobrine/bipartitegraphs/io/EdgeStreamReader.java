@@ -0,0 +1,116 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.BipartiteResult;
+import io.github.denismasterherobrine.bipartitegraphs.core.ParityUnionFind;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Checks graphs given as a stream of edges without building any matrix.
+ *
+ * The file holds the number of points on the first line, followed by the edges, one pair of vertex IDs starting at 1 per line.
+ * Edges are added one by one to a {@link ParityUnionFind}, so the check takes O(n) memory whatever the number of edges is,
+ * and stops reading at the first edge which closes an odd cycle.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class EdgeStreamReader {
+    private static final DirectBufferCache BUFFERS = new DirectBufferCache(1 << 16);
+
+    private EdgeStreamReader() {
+    }
+
+    /**
+     * @param path A path to the edge list file.
+     * @return the partitions of the graph, or a result without a cycle if the graph is not bipartite,
+     *         as the union-find doesn't keep the paths the cycle would be built from
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    public static BipartiteResult check(String path) throws IOException {
+        ByteBuffer buffer = BUFFERS.take();
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            Tokenizer tokens = new Tokenizer(channel, buffer);
+
+            int points = tokens.next();
+            if (points == -1) {
+                throw new IOException("The number of points is missing");
+            }
+
+            ParityUnionFind sets = new ParityUnionFind(points);
+            int first;
+
+            while ((first = tokens.next()) != -1) {
+                int second = tokens.next();
+
+                if (second == -1) {
+                    throw new IOException("The last edge has no second end");
+                }
+                if (first < 1 || first > points || second < 1 || second > points) {
+                    throw new IOException("The edge " + first + " " + second + " is out of " + points + " points");
+                }
+
+                // Woo-hoo! The edge closed an odd cycle, the rest of the stream can't change the answer.
+                if (!sets.union(first - 1, second - 1)) {
+                    return new BipartiteResult(null, null);
+                }
+            }
+
+            return new BipartiteResult(sets.colors(), null);
+        } finally {
+            BUFFERS.give(buffer);
+        }
+    }
+
+    /**
+     * Reads non-negative numbers separated by spaces and line breaks straight from the bytes of the file.
+     */
+    private static final class Tokenizer {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        Tokenizer(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+            buffer.limit(0);
+        }
+
+        /**
+         * @return the next number, or -1 at the end of the file
+         */
+        int next() throws IOException {
+            int value = 0;
+            boolean number = false;
+
+            while (true) {
+                if (!buffer.hasRemaining()) {
+                    buffer.clear();
+                    if (channel.read(buffer) == -1) {
+                        buffer.limit(0);
+                        return number ? value : -1;
+                    }
+                    buffer.flip();
+                }
+
+                byte b = buffer.get();
+
+                if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    number = true;
+                } else if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                    if (number) {
+                        return value;
+                    }
+                } else {
+                    throw new IOException("Unexpected character '" + (char) b + "'");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import java.io.IOException;
+
+/**
+ * A seeded generator of large graphs in the text format of the input.txt file, for benchmarks and load tests.
+ *
+ * Every cell of the matrix is decided by a pure function of its row, its column and the seed, which is evaluated
+ * for the lower vertex first, so the matrix is symmetric without keeping any earlier rows. Rows are written one by one
+ * through a {@link ResultWriter}, and only a few arrays with one value per vertex are kept in memory,
+ * so the generator can write matrices far larger than the heap. The same seed always gives the same file.
+ *
+ * Usage:
+ * <pre>
+ * java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator bipartite &lt;path&gt; &lt;size&gt; &lt;probability&gt; [seed]
+ * java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator random &lt;path&gt; &lt;size&gt; &lt;probability&gt; [seed]
+ * java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator planted &lt;path&gt; &lt;size&gt; &lt;probability&gt; [seed]
+ * java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator grid &lt;path&gt; &lt;rows&gt; &lt;columns&gt;
+ * java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator path &lt;path&gt; &lt;size&gt;
+ * java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator cycle &lt;path&gt; &lt;size&gt; odd|even
+ * java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator power-law &lt;path&gt; &lt;size&gt; &lt;exponent&gt; &lt;average degree&gt; [seed]
+ * </pre>
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class GraphGenerator {
+    private static final long DEFAULT_SEED = 42L;
+
+    /**
+     * Decides whether there is an edge between two distinct vertices.
+     */
+    private interface EdgeRule {
+        /**
+         * @param low the lower vertex
+         * @param high the higher vertex
+         * @return true if the vertices are adjacent
+         */
+        boolean test(int low, int high);
+    }
+
+    private GraphGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: java io.github.denismasterherobrine.bipartitegraphs.io.GraphGenerator <bipartite|random|planted|grid|path|cycle|power-law> <path> <size> [parameters...] [seed]");
+            System.exit(1);
+        }
+
+        String path = args[1];
+        int size = Integer.parseInt(args[2]);
+
+        switch (args[0]) {
+            case "bipartite":
+                randomBipartite(path, size, Double.parseDouble(args[3]), seed(args, 4));
+                break;
+            case "random":
+                erdosRenyi(path, size, Double.parseDouble(args[3]), seed(args, 4));
+                break;
+            case "planted":
+                plantedOddCycle(path, size, Double.parseDouble(args[3]), seed(args, 4));
+                break;
+            case "grid":
+                grid(path, size, Integer.parseInt(args[3]));
+                break;
+            case "path":
+                path(path, size);
+                break;
+            case "cycle":
+                cycle(path, size, "odd".equals(args[3]));
+                break;
+            case "power-law":
+                powerLaw(path, size, Double.parseDouble(args[3]), Double.parseDouble(args[4]), seed(args, 5));
+                break;
+            default:
+                System.err.println("Unknown graph shape: " + args[0]);
+                System.exit(1);
+        }
+    }
+
+    private static long seed(String[] args, int index) {
+        return args.length > index ? Long.parseLong(args[index]) : DEFAULT_SEED;
+    }
+
+    /**
+     * Writes a random bipartite graph: every vertex is put on a random side,
+     * and each pair of vertices on different sides is joined with the given probability.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param size the number of vertices
+     * @param probability the probability of an edge between two vertices on different sides
+     * @param seed the seed of the sides and the edges
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void randomBipartite(String path, int size, double probability, long seed) throws IOException {
+        write(path, size, (low, high) -> side(seed, low) != side(seed, high) && uniform(seed, low, high) < probability);
+    }
+
+    /**
+     * Writes a random bipartite graph the same way as {@link #randomBipartite(String, int, double, long)}
+     * and plants a triangle: an edge between two vertices of the same side in the middle of the graph,
+     * and edges from both of them to the first vertex of the other side, so the graph is never bipartite.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param size the number of vertices, at least 3
+     * @param probability the probability of an edge between two vertices on different sides
+     * @param seed the seed of the sides and the edges
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void plantedOddCycle(String path, int size, double probability, long seed) throws IOException {
+        // There are always two vertices of the same side among any three.
+        int middle = size / 2 - 1;
+        int plantedLow = side(seed, middle) == side(seed, middle + 1) || side(seed, middle) == side(seed, middle + 2) ? middle : middle + 1;
+        int plantedHigh = side(seed, plantedLow) == side(seed, plantedLow + 1) ? plantedLow + 1 : middle + 2;
+
+        // The apex closes the triangle, if every vertex is on one side the third vertex of the middle is taken instead.
+        int apex = 3 * middle + 3 - plantedLow - plantedHigh;
+        for (int vertex = 0; vertex < size; vertex++) {
+            if (side(seed, vertex) != side(seed, plantedLow)) {
+                apex = vertex;
+                break;
+            }
+        }
+        int planted = apex;
+
+        write(path, size, (low, high) -> joins(low, high, plantedLow, plantedHigh)
+                || joins(low, high, plantedLow, planted)
+                || joins(low, high, plantedHigh, planted)
+                || side(seed, low) != side(seed, high) && uniform(seed, low, high) < probability);
+    }
+
+    /**
+     * Writes an Erdos-Renyi graph, where each pair of vertices is joined with the given probability.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param size the number of vertices
+     * @param probability the probability of an edge between two vertices
+     * @param seed the seed of the edges
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void erdosRenyi(String path, int size, double probability, long seed) throws IOException {
+        write(path, size, (low, high) -> uniform(seed, low, high) < probability);
+    }
+
+    /**
+     * Writes a grid, where every vertex is joined with its right and lower neighbors. Grids are always bipartite.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param rows the number of rows of the grid
+     * @param columns the number of columns of the grid
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void grid(String path, int rows, int columns) throws IOException {
+        write(path, rows * columns, (low, high) -> high - low == columns || high - low == 1 && high % columns != 0);
+    }
+
+    /**
+     * Writes a path through all vertices in order, the longest possible shortest path of the given size.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param size the number of vertices
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void path(String path, int size) throws IOException {
+        write(path, size, (low, high) -> high - low == 1);
+    }
+
+    /**
+     * Writes a single cycle of the chosen parity. If the size has the other parity, the last vertex is left isolated.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param size the number of vertices, at least 3 for an odd cycle and 4 for an even one
+     * @param odd true for a cycle of odd length, which makes the graph not bipartite
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void cycle(String path, int size, boolean odd) throws IOException {
+        int length = (size % 2 == 1) == odd ? size : size - 1;
+
+        write(path, size, (low, high) -> high < length && (high - low == 1 || low == 0 && high == length - 1));
+    }
+
+    /**
+     * Writes a graph with a power-law degree distribution by the Chung-Lu model:
+     * the vertex {@code i} has the weight {@code (i + 1) ^ (-1 / (exponent - 1))}, scaled to the average degree,
+     * and two vertices are joined with the probability proportional to the product of their weights.
+     * Vertices with lower IDs have higher degrees.
+     *
+     * @param path A path to the output file, it's overwritten if exists.
+     * @param size the number of vertices
+     * @param exponent the exponent of the degree distribution, greater than 2
+     * @param averageDegree the expected average degree
+     * @param seed the seed of the edges
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public static void powerLaw(String path, int size, double exponent, double averageDegree, long seed) throws IOException {
+        double[] weights = new double[size];
+        double sum = 0;
+
+        for (int i = 0; i < size; i++) {
+            weights[i] = Math.pow(i + 1, -1 / (exponent - 1));
+            sum += weights[i];
+        }
+
+        // Expected degrees are equal to the weights once they sum up to size * averageDegree.
+        double scale = size * averageDegree / sum;
+        for (int i = 0; i < size; i++) {
+            weights[i] *= scale;
+        }
+
+        double total = size * averageDegree;
+
+        write(path, size, (low, high) -> uniform(seed, low, high) < weights[low] * weights[high] / total);
+    }
+
+    /**
+     * Writes the matrix row by row, asking the rule about every cell above the diagonal and mirroring it below.
+     */
+    private static void write(String path, int size, EdgeRule rule) throws IOException {
+        try (ResultWriter writer = new ResultWriter(path)) {
+            writer.writeNumber(size);
+            writer.newLine();
+
+            for (int row = 0; row < size; row++) {
+                for (int column = 0; column < size; column++) {
+                    boolean edge = row < column ? rule.test(row, column) : row > column && rule.test(column, row);
+
+                    if (column > 0) {
+                        writer.write(' ');
+                    }
+                    writer.write(edge ? '1' : '0');
+                }
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * @return true if the pair of vertices, the lower one first, is the pair of the given vertices in any order
+     */
+    private static boolean joins(int low, int high, int first, int second) {
+        return low == Math.min(first, second) && high == Math.max(first, second);
+    }
+
+    /**
+     * @return the side of a vertex in a random bipartite graph, 0 or 1
+     */
+    private static int side(long seed, int vertex) {
+        return (int) (mix(seed ^ 0x5DEECE66DL, vertex, -1) >>> 63);
+    }
+
+    /**
+     * @return a number in [0, 1) drawn uniformly for the pair of vertices
+     */
+    private static double uniform(long seed, int low, int high) {
+        return (mix(seed, low, high) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Mixes the seed and the pair with the finalizer of SplitMix64, which spreads a change of any bit over the whole value.
+     */
+    private static long mix(long seed, int low, int high) {
+        long value = seed + ((long) low << 32 | (high & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,445 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.AdjacencyGraph;
+import io.github.denismasterherobrine.bipartitegraphs.core.BitMatrix;
+import io.github.denismasterherobrine.bipartitegraphs.core.CsrGraph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Loads adjacency matrices in the input.txt format into any of the storages of the Bipartite Graphs API.
+ *
+ * Files are either read through a {@link FileChannel} into a single reusable direct buffer or memory-mapped,
+ * and parsed by {@link MatrixParser} in place, so loading takes no memory besides the storage itself.
+ * Mapped files may also be split into ranges of rows which are parsed on all cores at once.
+ * Files in the {@link BinaryGraphFormat} are recognized by their magic and loaded without parsing, whatever the mode is.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class GraphReader {
+    private static final DirectBufferCache BUFFERS = new DirectBufferCache(1 << 16);
+
+    // A single mapping can't be larger than 2 GB, so bigger files are mapped part by part.
+    private static final long MAPPING_SIZE = 1L << 30;
+
+    private GraphReader() {
+    }
+
+    /**
+     * @param path A path to the input data file.
+     * @return the adjacency matrix with the values of the file
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    public static int[][] readMatrix(String path) throws IOException {
+        return readMatrix(path, LoadMode.STREAM);
+    }
+
+    /**
+     * @param path A path to the input data file.
+     * @param mode the way the file is loaded
+     * @return the same as {@link #readMatrix(String)}
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    public static int[][] readMatrix(String path, LoadMode mode) throws IOException {
+        if (BinaryGraphFormat.isBinary(path)) {
+            AdjacencyGraph graph = BinaryGraphFormat.read(path);
+            int[][] matrix = new int[graph.size()][graph.size()];
+
+            for (int vertex = 0; vertex < graph.size(); vertex++) {
+                for (int edge = graph.nextEdge(vertex, graph.firstEdge(vertex)); edge != -1; edge = graph.nextEdge(vertex, edge + 1)) {
+                    matrix[vertex][graph.target(vertex, edge)] = 1;
+                }
+            }
+            return matrix;
+        }
+
+        MatrixSink sink = new MatrixSink();
+        read(path, sink, mode);
+        return sink.matrix;
+    }
+
+    /**
+     * @param path A path to the input data file.
+     * @return the bit-packed matrix, a cell equal to 1 is an edge
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    public static BitMatrix readBitMatrix(String path) throws IOException {
+        return readBitMatrix(path, LoadMode.STREAM);
+    }
+
+    /**
+     * @param path A path to the input data file.
+     * @param mode the way the file is loaded
+     * @return the same as {@link #readBitMatrix(String)}
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    public static BitMatrix readBitMatrix(String path, LoadMode mode) throws IOException {
+        if (BinaryGraphFormat.isBinary(path)) {
+            return BitMatrix.fromGraph(BinaryGraphFormat.read(path));
+        }
+
+        BitMatrixSink sink = new BitMatrixSink();
+        read(path, sink, mode);
+        return sink.builder.build();
+    }
+
+    /**
+     * @param path A path to the input data file.
+     * @return the compressed sparse row graph, a cell equal to 1 is an edge
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    public static CsrGraph readCsrGraph(String path) throws IOException {
+        return readCsrGraph(path, LoadMode.STREAM);
+    }
+
+    /**
+     * @param path A path to the input data file.
+     * @param mode the way the file is loaded
+     * @return the same as {@link #readCsrGraph(String)}
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    public static CsrGraph readCsrGraph(String path, LoadMode mode) throws IOException {
+        if (BinaryGraphFormat.isBinary(path)) {
+            return CsrGraph.fromGraph(BinaryGraphFormat.read(path));
+        }
+
+        CsrSink sink = new CsrSink();
+        read(path, sink, mode);
+        return sink.result();
+    }
+
+    /**
+     * Passes the whole file through the parser.
+     *
+     * @param path A path to the input data file.
+     * @param sink the receiver of the parsed matrix
+     * @param mode the way the file is loaded
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    private static void read(String path, PartitionedSink sink, LoadMode mode) throws IOException {
+        if (mode == LoadMode.PARALLEL) {
+            readParallel(path, sink);
+            return;
+        }
+
+        MatrixParser parser = new MatrixParser(sink);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            if (mode == LoadMode.MAPPED) {
+                map(channel, parser);
+            } else {
+                stream(channel, parser);
+            }
+        }
+
+        parser.finish();
+    }
+
+    private static void stream(FileChannel channel, MatrixParser parser) throws IOException {
+        ByteBuffer buffer = BUFFERS.take();
+
+        try {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                parser.feed(buffer);
+                buffer.clear();
+            }
+        } finally {
+            BUFFERS.give(buffer);
+        }
+    }
+
+    private static void map(FileChannel channel, MatrixParser parser) throws IOException {
+        long size = channel.size();
+
+        // The parser keeps its state between the parts, so they may split a row anywhere.
+        for (long start = 0; start < size; start += MAPPING_SIZE) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MAPPING_SIZE, size - start));
+            parser.feed(buffer);
+        }
+    }
+
+    /**
+     * Maps the file, splits it on line breaks into ranges of rows and parses every range as a separate task of the common fork-join pool.
+     *
+     * Rows are independent once their indices are known, so the rows of every range are counted in parallel first,
+     * and then the ranges are parsed in parallel into the parts of the sink.
+     *
+     * @param path A path to the input data file.
+     * @param sink the receiver of the parsed matrix
+     * @throws IOException if the file doesn't exist or is malformed.
+     * @since 1.1.0
+     */
+    private static void readParallel(String path, PartitionedSink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            List<ByteBuffer> ranges = new ArrayList<>();
+            int pieces = ForkJoinPool.getCommonPoolParallelism() * 4;
+            long size = channel.size();
+
+            // Every mapping ends on a line break, so no row is split between two of them.
+            for (long start = 0; start < size; ) {
+                long length = Math.min(MAPPING_SIZE, size - start);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                int end = (int) length;
+
+                if (start + length < size) {
+                    end = lastLineBreak(buffer, 0, end) + 1;
+                    if (end == 0) {
+                        throw new IOException("A row at byte " + start + " is too long to be mapped");
+                    }
+                }
+
+                split(buffer, end, pieces, ranges);
+                start += end;
+            }
+
+            if (ranges.isEmpty()) {
+                throw new IOException("The number of points is missing");
+            }
+
+            // The first line holds the number of points, so it's parsed on its own and lets the sink prepare the storage.
+            ByteBuffer first = ranges.get(0);
+            MatrixParser header = new MatrixParser(sink);
+
+            while (header.points() == -1 && first.hasRemaining()) {
+                ByteBuffer line = first.duplicate();
+                line.limit(firstLineBreak(first) + 1);
+                header.feed(line);
+                first.position(line.position());
+            }
+            header.finish();
+
+            int points = header.points();
+
+            // Count the rows of every range to know where each one starts.
+            int[] rows = new int[ranges.size()];
+            List<Callable<Void>> tasks = new ArrayList<>();
+
+            for (int i = 0; i < ranges.size(); i++) {
+                final int index = i;
+                tasks.add(() -> {
+                    rows[index] = MatrixParser.countRows(ranges.get(index));
+                    return null;
+                });
+            }
+            invokeAll(tasks);
+
+            MatrixParser.Sink[] parts = sink.parts(rows);
+            tasks.clear();
+
+            int firstRow = 0;
+            for (int i = 0; i < ranges.size(); i++) {
+                final MatrixParser parser = new MatrixParser(parts[i], points, firstRow);
+                final ByteBuffer range = ranges.get(i);
+                tasks.add(() -> {
+                    parser.feed(range);
+                    parser.finish();
+                    return null;
+                });
+                firstRow += rows[i];
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Splits the first bytes of a buffer into about the given number of ranges, each one ending on a line break.
+     */
+    private static void split(ByteBuffer buffer, int end, int pieces, List<ByteBuffer> ranges) {
+        int step = Math.max(end / pieces, 1);
+        int start = 0;
+
+        while (start < end) {
+            int limit = end;
+
+            if (end - start > step) {
+                // Extend the range to the end of the row it cuts.
+                int lineBreak = firstLineBreak(buffer, start + step, end);
+                limit = lineBreak == -1 ? end : lineBreak + 1;
+            }
+
+            ByteBuffer range = buffer.duplicate();
+            range.limit(limit);
+            range.position(start);
+            ranges.add(range);
+            start = limit;
+        }
+    }
+
+    private static int firstLineBreak(ByteBuffer buffer) {
+        int index = firstLineBreak(buffer, buffer.position(), buffer.limit());
+        return index == -1 ? buffer.limit() - 1 : index;
+    }
+
+    private static int firstLineBreak(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastLineBreak(ByteBuffer buffer, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void invokeAll(List<Callable<Void>> tasks) throws IOException {
+        try {
+            for (Future<Void> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Loading was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * A sink which may also be filled by many parsers at once, each one taking its own range of rows.
+     *
+     * @since 1.1.0
+     */
+    private interface PartitionedSink extends MatrixParser.Sink {
+        /**
+         * Called after {@link #begin(int)}, when the file is parsed in ranges.
+         *
+         * @param rows the number of rows in every range, in order
+         * @return the sinks for every range, which may be used from different threads
+         */
+        MatrixParser.Sink[] parts(int[] rows);
+    }
+
+    private static final class MatrixSink implements PartitionedSink {
+        int[][] matrix;
+
+        @Override
+        public void begin(int points) {
+            matrix = new int[points][points];
+        }
+
+        @Override
+        public MatrixParser.Sink[] parts(int[] rows) {
+            // Every range writes its own rows only, so a single matrix is shared.
+            MatrixParser.Sink[] parts = new MatrixParser.Sink[rows.length];
+            Arrays.fill(parts, this);
+            return parts;
+        }
+
+        @Override
+        public void cell(int row, int column, int value) {
+            matrix[row][column] = value;
+        }
+
+        @Override
+        public void endRow(int row) {
+        }
+    }
+
+    private static final class BitMatrixSink implements PartitionedSink {
+        BitMatrix.Builder builder;
+
+        @Override
+        public void begin(int points) {
+            builder = new BitMatrix.Builder(points);
+        }
+
+        @Override
+        public MatrixParser.Sink[] parts(int[] rows) {
+            // Every row has its own words, so ranges never touch the same word.
+            MatrixParser.Sink[] parts = new MatrixParser.Sink[rows.length];
+            Arrays.fill(parts, this);
+            return parts;
+        }
+
+        @Override
+        public void cell(int row, int column, int value) {
+            if (value == 1) {
+                builder.set(row, column);
+            }
+        }
+
+        @Override
+        public void endRow(int row) {
+        }
+    }
+
+    private static final class CsrSink implements PartitionedSink {
+        CsrGraph.Builder builder;
+        CsrSink[] parts;
+        int points;
+
+        @Override
+        public void begin(int points) {
+            this.points = points;
+            builder = new CsrGraph.Builder(points);
+        }
+
+        @Override
+        public MatrixParser.Sink[] parts(int[] rows) {
+            builder = null;
+
+            // Targets have to be laid out row after row, so every range collects its own rows to be joined afterwards.
+            parts = new CsrSink[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                parts[i] = new CsrSink();
+                parts[i].begin(rows[i]);
+            }
+            return parts;
+        }
+
+        CsrGraph result() {
+            if (parts == null) {
+                return builder.build();
+            }
+
+            CsrGraph[] graphs = new CsrGraph[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                graphs[i] = parts[i].builder.build();
+            }
+            return CsrGraph.concat(points, graphs);
+        }
+
+        @Override
+        public void cell(int row, int column, int value) {
+            if (value == 1) {
+                builder.add(column);
+            }
+        }
+
+        @Override
+        public void endRow(int row) {
+            builder.endRow();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+/**
+ * The ways an input file can be loaded by {@link GraphReader}.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public enum LoadMode {
+    /**
+     * The file is read in small parts into a reusable direct buffer, which fits files of any size.
+     */
+    STREAM,
+
+    /**
+     * The file is memory-mapped and parsed in place, so the I/O is done by the page cache of the OS
+     * and the heap holds nothing but the loaded graph. Best for very large files.
+     */
+    MAPPED,
+
+    /**
+     * The file is memory-mapped, split into ranges of rows and parsed on all cores of the common fork-join pool at once.
+     */
+    PARALLEL
+}
@@ -0,0 +1,203 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A byte-level parser of the input.txt format: the number of points on the first line, followed by the rows of the adjacency matrix.
+ *
+ * The parser reads ASCII digits straight from byte buffers, so no strings are created for lines or cells.
+ * Its state is kept between calls to {@link #feed(ByteBuffer)}, so numbers and rows may be split across buffers in any way.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+final class MatrixParser {
+    /**
+     * Receives the contents of the matrix from the parser.
+     *
+     * @since 1.1.0
+     */
+    interface Sink {
+        /**
+         * Called once the number of points is read, before any cell.
+         *
+         * @param points the number of points of the graph
+         */
+        void begin(int points);
+
+        /**
+         * Called for every non-zero cell of the matrix, cells are reported in the order of the file.
+         *
+         * @param row the row of the cell
+         * @param column the column of the cell
+         * @param value the value of the cell
+         */
+        void cell(int row, int column, int value);
+
+        /**
+         * Called after the last cell of every row.
+         *
+         * @param row the row which is finished
+         */
+        void endRow(int row);
+    }
+
+    private final Sink sink;
+    private int points = -1;
+    private boolean header = true;
+    private int row = 0;
+    private int column = 0;
+    private int value = 0;
+    private boolean number = false;
+    private long position = 0;
+
+    /**
+     * @param sink the receiver of the parsed matrix
+     * @since 1.1.0
+     */
+    MatrixParser(Sink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Creates a parser for a part of the file which starts at the beginning of a row after the first line.
+     * The sink is expected to be ready, so {@link Sink#begin(int)} is never called.
+     *
+     * @param sink the receiver of the parsed rows
+     * @param points the number of points, which is already read from the first line
+     * @param firstRow the index of the first row of the part
+     * @since 1.1.0
+     */
+    MatrixParser(Sink sink, int points, int firstRow) {
+        this.sink = sink;
+        this.points = points;
+        this.header = false;
+        this.row = firstRow;
+    }
+
+    /**
+     * Counts the rows of a part of the file the same way as the parser does, so blank lines are skipped.
+     *
+     * @param buffer a buffer holding a part of the file after the first line, it's not consumed
+     * @return the number of rows in the buffer
+     * @since 1.1.0
+     */
+    static int countRows(ByteBuffer buffer) {
+        int rows = 0;
+        boolean digits = false;
+
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            byte b = buffer.get(i);
+
+            if (b == '\n') {
+                if (digits) {
+                    rows++;
+                }
+                digits = false;
+            } else if (b >= '0' && b <= '9') {
+                digits = true;
+            }
+        }
+
+        // The last row may not be followed by a line break.
+        return digits ? rows + 1 : rows;
+    }
+
+    /**
+     * Parses all remaining bytes of the buffer.
+     *
+     * @param buffer a buffer holding the next part of the file
+     * @throws IOException if the file contains anything but numbers, spaces and line breaks,
+     *         or has more rows or more cells in a row than the number of points
+     * @since 1.1.0
+     */
+    void feed(ByteBuffer buffer) throws IOException {
+        int limit = buffer.limit();
+
+        for (int i = buffer.position(); i < limit; i++) {
+            byte b = buffer.get(i);
+
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                number = true;
+            } else if (b == ' ' || b == '\t') {
+                endNumber();
+            } else if (b == '\n') {
+                endNumber();
+                endLine();
+            } else if (b != '\r') {
+                throw new IOException("Unexpected character '" + (char) b + "' at byte " + (position + i - buffer.position()));
+            }
+        }
+
+        position += limit - buffer.position();
+        buffer.position(limit);
+    }
+
+    /**
+     * Finishes the last row, which may not be followed by a line break.
+     *
+     * @throws IOException if the number of points is missing, or the last row is too long
+     * @since 1.1.0
+     */
+    void finish() throws IOException {
+        endNumber();
+        endLine();
+
+        if (points == -1) {
+            throw new IOException("The number of points is missing");
+        }
+    }
+
+    /**
+     * @return the number of points read from the first line, or -1 if it's not read yet
+     * @since 1.1.0
+     */
+    int points() {
+        return points;
+    }
+
+    private void endNumber() throws IOException {
+        if (!number) {
+            return;
+        }
+
+        if (points == -1) {
+            points = value;
+            sink.begin(points);
+        } else {
+            // Storages are sized by the number of points, so a cell past it would land outside of the graph.
+            if (row >= points) {
+                throw new IOException("The matrix has more than " + points + " rows");
+            }
+            if (column >= points) {
+                throw new IOException("The row " + (row + 1) + " has more than " + points + " cells");
+            }
+
+            // Zero cells are the default of every storage, so they're skipped.
+            if (value != 0) {
+                sink.cell(row, column, value);
+            }
+            column++;
+        }
+
+        value = 0;
+        number = false;
+    }
+
+    private void endLine() {
+        if (points == -1) {
+            return;
+        }
+
+        if (header) {
+            header = false;
+        } else if (column > 0) {
+            // Blank lines are not rows.
+            sink.endRow(row);
+            row++;
+            column = 0;
+        }
+    }
+}
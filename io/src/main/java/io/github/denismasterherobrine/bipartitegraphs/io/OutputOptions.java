@@ -0,0 +1,81 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.BipartiteResult;
+
+/**
+ * The format of the certificate written for a {@link BipartiteResult}: the base of the IDs, the direction of the cycle
+ * and the order of the partitions.
+ *
+ * Options are applied while the IDs are written, so none of them needs another pass over the result.
+ * An instance is immutable, each {@code with} method returns a changed copy.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class OutputOptions {
+    /**
+     * The format expected by the testing environment: IDs starting at 1, the cycle written backwards, sorted partitions.
+     */
+    public static final OutputOptions DEFAULT = new OutputOptions(1, true, VertexOrder.SORTED);
+
+    private final int firstId;
+    private final boolean reversedCycle;
+    private final VertexOrder order;
+
+    private OutputOptions(int firstId, boolean reversedCycle, VertexOrder order) {
+        this.firstId = firstId;
+        this.reversedCycle = reversedCycle;
+        this.order = order;
+    }
+
+    /**
+     * @param firstId the ID written for the vertex 0, usually 0 or 1
+     * @return a copy of the options with the given first ID
+     * @since 1.1.0
+     */
+    public OutputOptions withFirstId(int firstId) {
+        return new OutputOptions(firstId, reversedCycle, order);
+    }
+
+    /**
+     * @param reversedCycle true to write the cycle from its last vertex to its first one
+     * @return a copy of the options with the given cycle direction
+     * @since 1.1.0
+     */
+    public OutputOptions withReversedCycle(boolean reversedCycle) {
+        return new OutputOptions(firstId, reversedCycle, order);
+    }
+
+    /**
+     * @param order the order of the vertices of each partition
+     * @return a copy of the options with the given order
+     * @since 1.1.0
+     */
+    public OutputOptions withOrder(VertexOrder order) {
+        return new OutputOptions(firstId, reversedCycle, order);
+    }
+
+    /**
+     * @return the ID written for the vertex 0
+     * @since 1.1.0
+     */
+    public int getFirstId() {
+        return firstId;
+    }
+
+    /**
+     * @return true if the cycle is written from its last vertex to its first one
+     * @since 1.1.0
+     */
+    public boolean isReversedCycle() {
+        return reversedCycle;
+    }
+
+    /**
+     * @return the order of the vertices of each partition
+     * @since 1.1.0
+     */
+    public VertexOrder getOrder() {
+        return order;
+    }
+}
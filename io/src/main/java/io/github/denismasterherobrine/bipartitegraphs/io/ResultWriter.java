@@ -0,0 +1,146 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A writer of text certificates, which encodes numbers straight into a direct buffer and flushes it to a file channel.
+ *
+ * No string, char array or boxed number is created for anything written, and the direct buffer is reused for the whole file and kept for the next writer of the thread,
+ * so writing takes a single pass and a fixed amount of memory however large the partitions are.
+ * The output is ASCII, lines end with the line separator of the system, like the ones of a {@code BufferedWriter}.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class ResultWriter implements Closeable {
+    private static final DirectBufferCache BUFFERS = new DirectBufferCache(1 << 16);
+    // The longest number is "-2147483648".
+    private static final int MAX_NUMBER_LENGTH = 11;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+    private long flushed = 0;
+
+    /**
+     * @param path A path to the output file, it's overwritten if exists.
+     * @throws IOException if the file can't be created.
+     * @since 1.1.0
+     */
+    public ResultWriter(String path) throws IOException {
+        this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = BUFFERS.take();
+    }
+
+    /**
+     * Writes a number in decimal, the digits are put into the buffer from the last one to the first one.
+     *
+     * @param number the number to be written
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public void writeNumber(int number) throws IOException {
+        if (buffer.remaining() < MAX_NUMBER_LENGTH) {
+            flush();
+        }
+
+        if (number < 0) {
+            buffer.put((byte) '-');
+        } else {
+            // Keep the number negative, so Integer.MIN_VALUE needs no special case.
+            number = -number;
+        }
+
+        int length = 1;
+        for (int rest = number / 10; rest != 0; rest /= 10) {
+            length++;
+        }
+
+        int position = buffer.position();
+        for (int i = position + length - 1; i >= position; i--) {
+            buffer.put(i, (byte) ('0' - number % 10));
+            number /= 10;
+        }
+        buffer.position(position + length);
+    }
+
+    /**
+     * @param character an ASCII character to be written
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public void write(char character) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) character);
+    }
+
+    /**
+     * @param text an ASCII text to be written
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public void write(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            write(text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes the line separator of the system.
+     *
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    public void newLine() throws IOException {
+        for (byte character : LINE_SEPARATOR) {
+            write((char) character);
+        }
+    }
+
+    /**
+     * @return the number of bytes written so far, including the ones still waiting in the buffer
+     * @since 1.1.0
+     */
+    public long bytesWritten() {
+        // A closed writer has flushed everything and given its buffer back.
+        return buffer == null ? flushed : flushed + buffer.position();
+    }
+
+    private void flush() throws IOException {
+        flushed += buffer.position();
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes out the rest of the buffer and closes the file.
+     *
+     * @throws IOException if the file can't be written.
+     * @since 1.1.0
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            flush();
+        } finally {
+            BUFFERS.give(buffer);
+            buffer = null;
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+/**
+ * The orders the vertices of a partition can be written in, chosen by {@link OutputOptions#withOrder(VertexOrder)}.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public enum VertexOrder {
+    /**
+     * Vertices are written by ascending IDs.
+     */
+    SORTED,
+
+    /**
+     * Vertices are written in the order the breadth-first search has colored them, component after component.
+     * Every breadth-first check keeps this order, while the results of the incremental and the streaming checks
+     * have none, so they can't be written in it.
+     */
+    DISCOVERY
+}
@@ -0,0 +1,132 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.AdjacencyGraph;
+import io.github.denismasterherobrine.bipartitegraphs.core.BitMatrix;
+import io.github.denismasterherobrine.bipartitegraphs.core.CsrGraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that every {@link LoadMode} loads the same graph into every storage, and rejects the same malformed files.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+class GraphReaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void crlfBlankLinesAndShortRows() throws IOException {
+        int[][] expected = {{0, 1, 0, 12}, {1, 0, 1, 0}, {0, 1, 0, 0}, {12, 0, 0, 0}};
+
+        assertLoads(expected, "4\r\n0 1\t0 12\r\n\r\n1 0 1 0\n\n0 1\r\n12 0 0 0");
+        assertLoads(expected, "\r\n4\r\n0 1 0 12\r\n1 0 1\r\n0 1\r\n12\r\n\r\n");
+    }
+
+    @Test
+    void largeFilesAreSplitIntoManyRanges() throws IOException {
+        Random random = new Random(47);
+
+        for (int round = 0; round < 10; round++) {
+            int points = 100 + random.nextInt(400);
+            int[][] expected = new int[points][points];
+            StringBuilder text = new StringBuilder().append(points).append("\r\n");
+
+            for (int row = 0; row < points; row++) {
+                // Trailing zeros may be left out, so rows have different lengths.
+                int length = random.nextInt(4) == 0 ? random.nextInt(points + 1) : points;
+
+                for (int column = 0; column < length; column++) {
+                    expected[row][column] = random.nextInt(10) == 0 ? 1 : 0;
+                    text.append(column == 0 ? "" : " ").append(expected[row][column]);
+                }
+                if (length == 0) {
+                    text.append('0');
+                }
+
+                text.append(random.nextBoolean() ? "\r\n" : "\n");
+                if (random.nextInt(20) == 0) {
+                    text.append("\r\n");
+                }
+            }
+
+            assertLoads(expected, text.toString());
+        }
+    }
+
+    @Test
+    void binaryFilesAreLoadedInEveryMode() throws IOException {
+        int[][] expected = {{0, 1, 1}, {1, 0, 0}, {1, 0, 0}};
+        String packed = directory.resolve("packed.bin").toString();
+        String sparse = directory.resolve("sparse.bin").toString();
+
+        BinaryGraphFormat.write(packed, BitMatrix.fromMatrix(expected));
+        BinaryGraphFormat.write(sparse, CsrGraph.fromMatrix(expected));
+
+        for (LoadMode mode : LoadMode.values()) {
+            for (String path : new String[]{packed, sparse}) {
+                assertArrayEquals(expected, GraphReader.readMatrix(path, mode));
+                assertEdges(expected, GraphReader.readBitMatrix(path, mode));
+                assertEdges(expected, GraphReader.readCsrGraph(path, mode));
+            }
+        }
+    }
+
+    @Test
+    void malformedFilesAreRejectedInEveryMode() throws IOException {
+        String[] malformed = {"", "\r\n\r\n", "2\r\n0 1\r\n1 x\r\n", "2\n0 -1\n1 0\n", "2\n0 1\n1 0\n1 1\n",
+                "2\n0 1 0\n1 0\n", "2\r\n0 1\r\n1 0\r\n\r\n0 1"};
+
+        for (int i = 0; i < malformed.length; i++) {
+            String path = write("malformed" + i + ".txt", malformed[i]);
+
+            for (LoadMode mode : LoadMode.values()) {
+                assertThrows(IOException.class, () -> GraphReader.readMatrix(path, mode), malformed[i]);
+                assertThrows(IOException.class, () -> GraphReader.readBitMatrix(path, mode), malformed[i]);
+                assertThrows(IOException.class, () -> GraphReader.readCsrGraph(path, mode), malformed[i]);
+            }
+        }
+    }
+
+    /**
+     * Loads the text in every mode and storage, the storages of edges only keep the cells holding 1.
+     */
+    private void assertLoads(int[][] expected, String text) throws IOException {
+        String path = write("input.txt", text);
+
+        for (LoadMode mode : LoadMode.values()) {
+            assertArrayEquals(expected, GraphReader.readMatrix(path, mode), mode.name());
+            assertEdges(expected, GraphReader.readBitMatrix(path, mode));
+            assertEdges(expected, GraphReader.readCsrGraph(path, mode));
+        }
+    }
+
+    private static void assertEdges(int[][] expected, AdjacencyGraph graph) {
+        BitMatrix matrix = BitMatrix.fromGraph(graph);
+
+        assertEquals(expected.length, matrix.size());
+        for (int row = 0; row < expected.length; row++) {
+            for (int column = 0; column < expected.length; column++) {
+                assertEquals(expected[row][column] == 1, matrix.get(row, column));
+            }
+        }
+    }
+
+    private String write(String name, String text) throws IOException {
+        Path path = directory.resolve(name);
+        Files.write(path, text.getBytes(StandardCharsets.US_ASCII));
+        return path.toString();
+    }
+}
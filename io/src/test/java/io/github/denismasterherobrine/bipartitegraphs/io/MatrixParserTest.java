@@ -0,0 +1,91 @@
+package io.github.denismasterherobrine.bipartitegraphs.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that {@link MatrixParser} reports the same cells however the file is split into buffers,
+ * and rejects malformed files.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+class MatrixParserTest {
+    // CRLF line breaks, tabs, blank lines, a short row, a value other than 1 and no line break after the last row.
+    private static final String MATRIX = "4\r\n0 1\t0 12\r\n\r\n1 0 1 0\n\n0 1\r\n12 0 0 0";
+
+    @Test
+    void reportsCellsAndRows() throws IOException {
+        assertEquals(Arrays.asList("begin 4", "cell 0 1 1", "cell 0 3 12", "end 0", "cell 1 0 1", "cell 1 2 1", "end 1",
+                "cell 2 1 1", "end 2", "cell 3 0 12", "end 3"), parse(MATRIX, MATRIX.length()));
+    }
+
+    @Test
+    void splitAnywhereMatchesWholeFeed() throws IOException {
+        List<String> whole = parse(MATRIX, MATRIX.length());
+
+        for (int step = 1; step < MATRIX.length(); step++) {
+            assertEquals(whole, parse(MATRIX, step));
+        }
+    }
+
+    @Test
+    void countRowsSkipsBlankLines() {
+        String rows = MATRIX.substring(MATRIX.indexOf('\n') + 1);
+
+        assertEquals(4, MatrixParser.countRows(ByteBuffer.wrap(rows.getBytes(StandardCharsets.US_ASCII))));
+        assertEquals(4, MatrixParser.countRows(ByteBuffer.wrap((rows + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII))));
+        assertEquals(0, MatrixParser.countRows(ByteBuffer.wrap("\r\n \n".getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    @Test
+    void malformedFilesAreRejected() {
+        for (String malformed : new String[]{"", "\r\n\n", "2\n0 1\n1 x", "2\n0 -1\n1 0", "2\n0 1\n1 0\n1 1",
+                "2\n0 1 0\n1 0", "2\r\n0,1\r\n1,0"}) {
+            for (int step = 1; step <= Math.max(malformed.length(), 1); step++) {
+                int split = step;
+                assertThrows(IOException.class, () -> parse(malformed, split), malformed);
+            }
+        }
+    }
+
+    /**
+     * Feeds the text in buffers of the given length and records every call of the sink.
+     */
+    private static List<String> parse(String text, int step) throws IOException {
+        List<String> calls = new ArrayList<>();
+        MatrixParser parser = new MatrixParser(new MatrixParser.Sink() {
+            @Override
+            public void begin(int points) {
+                calls.add("begin " + points);
+            }
+
+            @Override
+            public void cell(int row, int column, int value) {
+                calls.add("cell " + row + " " + column + " " + value);
+            }
+
+            @Override
+            public void endRow(int row) {
+                calls.add("end " + row);
+            }
+        });
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+
+        for (int start = 0; start < bytes.length; start += step) {
+            parser.feed(ByteBuffer.wrap(bytes, start, Math.min(step, bytes.length - start)));
+        }
+        parser.finish();
+
+        return calls;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.denismasterherobrine.bipartitegraphs.jfr;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.PipelinePhase;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every {@link PipelinePhase#COLORING} phase: the traversed part of the graph and whether it's bipartite.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+@Name("bipartite.Coloring")
+@Label("Coloring")
+@Description("A graph is 2-colored")
+final class ColoringEvent extends PhaseEvent {
+}
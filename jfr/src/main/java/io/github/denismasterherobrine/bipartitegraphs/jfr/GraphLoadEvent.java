@@ -0,0 +1,19 @@
+package io.github.denismasterherobrine.bipartitegraphs.jfr;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.PipelinePhase;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every {@link PipelinePhase#LOAD} phase: the size of the loaded graph and of its file.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+@Name("bipartite.GraphLoad")
+@Label("Graph Load")
+@Description("A graph is read from a file")
+final class GraphLoadEvent extends PhaseEvent {
+}
@@ -0,0 +1,71 @@
+package io.github.denismasterherobrine.bipartitegraphs.jfr;
+
+import io.github.denismasterherobrine.bipartitegraphs.cli.BipartiteGraphsAPI;
+import io.github.denismasterherobrine.bipartitegraphs.core.MetricsListener;
+import io.github.denismasterherobrine.bipartitegraphs.core.PhaseMetrics;
+import io.github.denismasterherobrine.bipartitegraphs.core.PipelinePhase;
+
+/**
+ * A {@link MetricsListener} which records every phase as a custom Java Flight Recorder event,
+ * so the phases and the shapes of their inputs show up in JDK Mission Control next to the CPU samples.
+ *
+ * An event is begun when its phase starts and committed when it's finished, on the thread running the phase.
+ * Phases whose events are disabled in the recording settings cost a single check.
+ *
+ * Usage: {@code java -XX:StartFlightRecording=filename=run.jfr -cp core.jar:io.jar:cli.jar:jfr.jar io.github.denismasterherobrine.bipartitegraphs.jfr.JfrMetricsListener},
+ * which runs {@link BipartiteGraphsAPI#main(String[])} with the events enabled.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+public final class JfrMetricsListener implements MetricsListener {
+    // Phases running on each thread, indexed by the ordinals of the phases.
+    private final ThreadLocal<PhaseEvent[]> running = ThreadLocal.withInitial(() -> new PhaseEvent[PipelinePhase.values().length]);
+
+    public static void main(String[] args) throws Exception {
+        BipartiteGraphsAPI.setMetricsListener(new JfrMetricsListener());
+        BipartiteGraphsAPI.main(args);
+    }
+
+    @Override
+    public void phaseStarted(PipelinePhase phase) {
+        PhaseEvent event = create(phase);
+
+        if (event.isEnabled()) {
+            event.begin();
+            running.get()[phase.ordinal()] = event;
+        }
+    }
+
+    @Override
+    public void phaseFinished(PhaseMetrics metrics) {
+        PhaseEvent[] events = running.get();
+        PhaseEvent event = events[metrics.getPhase().ordinal()];
+
+        if (event == null) {
+            return;
+        }
+
+        events[metrics.getPhase().ordinal()] = null;
+        event.end();
+
+        // Events shorter than the threshold of the recording are dropped without filling them.
+        if (event.shouldCommit()) {
+            event.fill(metrics);
+            event.commit();
+        }
+    }
+
+    private static PhaseEvent create(PipelinePhase phase) {
+        switch (phase) {
+            case LOAD:
+                return new GraphLoadEvent();
+            case COLORING:
+                return new ColoringEvent();
+            case ODD_CYCLE:
+                return new OddCycleEvent();
+            default:
+                return new ResultWriteEvent();
+        }
+    }
+}
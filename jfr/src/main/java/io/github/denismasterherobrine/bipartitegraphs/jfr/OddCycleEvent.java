@@ -0,0 +1,19 @@
+package io.github.denismasterherobrine.bipartitegraphs.jfr;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.PipelinePhase;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every {@link PipelinePhase#ODD_CYCLE} phase: the traversed part of the graph and whether a cycle is found.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+@Name("bipartite.OddCycleSearch")
+@Label("Odd Cycle Search")
+@Description("An odd cycle of a graph is searched for")
+final class OddCycleEvent extends PhaseEvent {
+}
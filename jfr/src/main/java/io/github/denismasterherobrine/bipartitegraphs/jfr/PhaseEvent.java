@@ -0,0 +1,55 @@
+package io.github.denismasterherobrine.bipartitegraphs.jfr;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.PhaseMetrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The fields shared by the Flight Recorder events of all phases, filled from the {@link PhaseMetrics} of a phase.
+ * Counters the phase doesn't measure are recorded as -1.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+@Category("Bipartite Graphs API")
+@StackTrace(false)
+abstract class PhaseEvent extends Event {
+    @Label("Vertices")
+    long vertices;
+
+    @Label("Edges")
+    long edges;
+
+    @Label("Max Queue Depth")
+    long maxQueueDepth;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Copies the counters and the outcome of a finished phase into the event.
+     *
+     * @param metrics the metrics of the phase
+     * @since 1.1.0
+     */
+    void fill(PhaseMetrics metrics) {
+        vertices = metrics.getVertices();
+        edges = metrics.getEdges();
+        maxQueueDepth = metrics.getMaxQueueDepth();
+        bytesRead = metrics.getBytesRead();
+        bytesWritten = metrics.getBytesWritten();
+        outcome = metrics.getOutcome().name();
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.denismasterherobrine.bipartitegraphs.jfr;
+
+import io.github.denismasterherobrine.bipartitegraphs.core.PipelinePhase;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded for every {@link PipelinePhase#WRITE} phase: the number of written vertices and bytes.
+ *
+ * @author DenisMasterHerobrine (Denis Kalashnikov)
+ * @since 1.1.0
+ */
+@Name("bipartite.ResultWrite")
+@Label("Result Write")
+@Description("A result is written to a file")
+final class ResultWriteEvent extends PhaseEvent {
+}